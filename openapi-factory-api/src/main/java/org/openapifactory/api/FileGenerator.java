@@ -5,5 +5,9 @@ import java.nio.file.Path;
 
 public interface FileGenerator {
 
-    void generate(Path outputRoot) throws IOException;
+    default void generate(Path outputRoot) throws IOException {
+        generate(new GeneratorOutput(outputRoot));
+    }
+
+    void generate(GeneratorOutput output) throws IOException;
 }
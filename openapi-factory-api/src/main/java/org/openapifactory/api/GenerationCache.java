@@ -0,0 +1,173 @@
+package org.openapifactory.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Records the digest of every file a generator run read, together with the generator version
+ * and the digest of every file it wrote, in <code>.openapi-factory/generation-cache</code> under the output root.
+ * When nothing has changed since the last run, the generator can skip parsing and generation.
+ */
+public class GenerationCache {
+
+    public static final String CACHE_DIRECTORY = ".openapi-factory";
+
+    private final Path outputRoot;
+    private final Path cacheFile;
+    private final String generatorVersion;
+
+    public GenerationCache(Path outputRoot, String generatorVersion) {
+        this.outputRoot = outputRoot;
+        this.cacheFile = outputRoot.resolve(CACHE_DIRECTORY).resolve("generation-cache");
+        this.generatorVersion = generatorVersion;
+    }
+
+    /**
+     * Checks if the previous run was generated from the same spec with the same generator version,
+     * none of the input files have changed and all output files are as they were written. If so, records
+     * the input and output files of the previous run in the output.
+     */
+    public boolean restoreUpToDateOutput(URL rootSpec, GeneratorOutput output) throws IOException {
+        var upToDateOutput = getUpToDateOutput(rootSpec);
+        if (upToDateOutput.isEmpty()) {
+            return false;
+        }
+        for (var inputFile : upToDateOutput.get().inputFiles()) {
+            output.addInputFile(URI.create(inputFile).toURL());
+        }
+        upToDateOutput.get().outputFiles().forEach(output::addUnchangedFile);
+        return true;
+    }
+
+    private record CachedRun(Collection<String> inputFiles, List<Path> outputFiles) {
+    }
+
+    private Optional<CachedRun> getUpToDateOutput(URL rootSpec) throws IOException {
+        if (!Files.isRegularFile(cacheFile)) {
+            return Optional.empty();
+        }
+        var inputs = new LinkedHashMap<String, String>();
+        var outputs = new LinkedHashMap<Path, String>();
+        String version = null;
+        for (var line : Files.readAllLines(cacheFile)) {
+            var parts = line.split(" ", 3);
+            switch (parts[0]) {
+                case "generator" -> version = line.substring("generator ".length());
+                case "input" -> inputs.put(parts[2], parts[1]);
+                case "output" -> outputs.put(Path.of(parts[2]), parts[1]);
+                default -> {
+                    return Optional.empty();
+                }
+            }
+        }
+        if (!generatorVersion.equals(version) || !rootSpec.toString().equals(inputs.keySet().stream().findFirst().orElse(null))) {
+            return Optional.empty();
+        }
+        for (var input : inputs.entrySet()) {
+            if (!input.getValue().equals(digest(URI.create(input.getKey()).toURL()))) {
+                return Optional.empty();
+            }
+        }
+        for (var output : outputs.entrySet()) {
+            if (!output.getValue().equals(digest(outputRoot.resolve(output.getKey()).toUri().toURL()))) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new CachedRun(inputs.keySet(), List.copyOf(outputs.keySet())));
+    }
+
+    /**
+     * Records the input files and all generated files of the output for the next run
+     */
+    public void update(GeneratorOutput output) throws IOException {
+        var lines = new ArrayList<String>();
+        lines.add("generator " + generatorVersion);
+        for (var input : output.getInputFiles()) {
+            lines.add("input " + digest(input) + " " + input);
+        }
+        for (var file : output.getFiles()) {
+            lines.add("output " + digest(outputRoot.resolve(file).toUri().toURL()) + " " + file);
+        }
+        Files.createDirectories(cacheFile.getParent());
+        Files.write(cacheFile, lines);
+    }
+
+    public void invalidate() throws IOException {
+        Files.deleteIfExists(cacheFile);
+    }
+
+    static String digest(URL url) throws IOException {
+        try (var input = url.openStream()) {
+            var digest = MessageDigest.getInstance("SHA-256");
+            var buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            return "missing";
+        }
+    }
+
+    /**
+     * Identifies the code of the generator. Released versions are identified by the
+     * <code>Implementation-Version</code> of their jar manifest. Development builds, which have a
+     * <code>-SNAPSHOT</code> version or no manifest when run from the classes directory, also include
+     * the latest modification time of the compiled classes, so rebuilding the generator invalidates the cache.
+     */
+    public static String generatorVersion(Class<?>... generatorClasses) {
+        var result = new ArrayList<String>();
+        for (var generatorClass : generatorClasses) {
+            var version = generatorClass.getPackage().getImplementationVersion();
+            if (version != null && !version.endsWith("-SNAPSHOT")) {
+                result.add(generatorClass.getName() + "@" + version);
+            } else {
+                result.add(generatorClass.getName() + "@" + version + "/" + lastModified(generatorClass));
+            }
+        }
+        return String.join(" ", result);
+    }
+
+    private static long lastModified(Class<?> generatorClass) {
+        var codeSource = generatorClass.getProtectionDomain().getCodeSource();
+        if (codeSource == null) {
+            return System.currentTimeMillis();
+        }
+        try {
+            var location = Path.of(codeSource.getLocation().toURI());
+            if (Files.isDirectory(location)) {
+                try (Stream<Path> files = Files.walk(location)) {
+                    return files.mapToLong(GenerationCache::lastModified).max().orElse(0);
+                }
+            }
+            return lastModified(location);
+        } catch (URISyntaxException | IOException | UncheckedIOException e) {
+            return System.currentTimeMillis();
+        }
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
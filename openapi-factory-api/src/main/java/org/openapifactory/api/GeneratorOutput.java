@@ -0,0 +1,144 @@
+package org.openapifactory.api;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The output directory of a generator run. Files are only written if their content changed,
+ * so unchanged files keep their modification time and don't trigger downstream rebuilds.
+ * Can be shared between generators writing concurrently.
+ */
+public class GeneratorOutput {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path root;
+    private final Set<Path> changedFiles = ConcurrentHashMap.newKeySet();
+    private final Set<Path> unchangedFiles = ConcurrentHashMap.newKeySet();
+    private final List<URL> inputFiles = new CopyOnWriteArrayList<>();
+
+    public GeneratorOutput(Path root) {
+        this.root = root;
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    public void writeString(String relativePath, String content) throws IOException {
+        var file = root.resolve(relativePath);
+        var bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (hasContent(file, bytes)) {
+            unchangedFiles.add(root.relativize(file));
+        } else {
+            Files.createDirectories(file.getParent());
+            Files.write(file, bytes);
+            changedFiles.add(root.relativize(file));
+        }
+    }
+
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(IndentingWriter writer) throws IOException;
+    }
+
+    /**
+     * Streams the content to a temporary file next to the target, which replaces the target only
+     * if the content differs. Memory use doesn't depend on the size of the file.
+     */
+    public void write(String relativePath, ContentWriter content) throws IOException {
+        var file = root.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        var tmpFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (var writer = new IndentingWriter(Files.newBufferedWriter(tmpFile))) {
+                content.writeTo(writer);
+            }
+            if (Files.isRegularFile(file) && Files.mismatch(file, tmpFile) == -1) {
+                unchangedFiles.add(root.relativize(file));
+            } else {
+                Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+                changedFiles.add(root.relativize(file));
+            }
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+    }
+
+    /**
+     * Records a file that the output was generated from, such as the spec or a file it references
+     */
+    public void addInputFile(URL inputFile) {
+        inputFiles.add(inputFile);
+    }
+
+    /**
+     * @return the root spec followed by the files it references
+     */
+    public List<URL> getInputFiles() {
+        return List.copyOf(inputFiles);
+    }
+
+    /**
+     * Records a file from a previous run that is known to be up-to-date without generating it
+     */
+    public void addUnchangedFile(Path relativePath) {
+        unchangedFiles.add(relativePath);
+    }
+
+    /**
+     * @return the files that were created or updated, relative to the output root
+     */
+    public SortedSet<Path> getChangedFiles() {
+        return new TreeSet<>(changedFiles);
+    }
+
+    /**
+     * @return the files that already had the generated content, relative to the output root
+     */
+    public SortedSet<Path> getUnchangedFiles() {
+        return new TreeSet<>(unchangedFiles);
+    }
+
+    public boolean hasChanges() {
+        return !changedFiles.isEmpty();
+    }
+
+    /**
+     * @return all files produced by the generator run, changed or not, relative to the output root
+     */
+    public SortedSet<Path> getFiles() {
+        var result = new TreeSet<>(changedFiles);
+        result.addAll(unchangedFiles);
+        return result;
+    }
+
+    static boolean hasContent(Path file, byte[] content) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) != content.length) {
+            return false;
+        }
+        try (var input = Files.newInputStream(file)) {
+            var buffer = new byte[BUFFER_SIZE];
+            int offset = 0;
+            int read;
+            while ((read = input.readNBytes(buffer, 0, buffer.length)) > 0) {
+                if (offset + read > content.length
+                    || !Arrays.equals(buffer, 0, read, content, offset, offset + read)) {
+                    return false;
+                }
+                offset += read;
+            }
+            return offset == content.length;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.openapifactory.api;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes generated source code, prefixing every line with the current indentation. Lets generators
+ * write nested sections straight to the output instead of building strings and indenting them afterwards
+ * with {@link StringUtil#indent} or {@link StringUtil#INDENT}.
+ */
+public class IndentingWriter extends Writer {
+    private final Writer out;
+    private int indent = 0;
+    private boolean atLineStart = true;
+
+    public IndentingWriter(Writer out) {
+        this.out = out;
+    }
+
+    public IndentingWriter indent(int spaces) {
+        indent += spaces;
+        return this;
+    }
+
+    public IndentingWriter outdent(int spaces) {
+        if (spaces > indent) {
+            throw new IllegalStateException("Can't outdent " + spaces + " from " + indent);
+        }
+        indent -= spaces;
+        return this;
+    }
+
+    /**
+     * Writes each item indented, ending with a newline unless nothing was written.
+     * Writes the same as {@code write(StringUtil.indent(spaces, list, fn))}
+     */
+    public <T> IndentingWriter writeIndented(int spaces, Collection<T> list, Function<T, String> fn) throws IOException {
+        indent(spaces);
+        var empty = true;
+        for (var item : list) {
+            var s = fn.apply(item);
+            write(s);
+            empty = empty && s.isEmpty();
+        }
+        if (!empty && !atLineStart) {
+            write('\n');
+        }
+        outdent(spaces);
+        return this;
+    }
+
+    /**
+     * Writes each item indented on lines of its own, skipping nulls. Writes the same as
+     * an {@link StringUtil#INDENT} template value placed alone on a line
+     */
+    public IndentingWriter writeLines(int spaces, Stream<String> items) throws IOException {
+        indent(spaces);
+        for (var iterator = items.iterator(); iterator.hasNext(); ) {
+            var item = iterator.next();
+            if (item != null) {
+                write(item);
+                if (!atLineStart) {
+                    write('\n');
+                }
+            }
+        }
+        outdent(spaces);
+        return this;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        if (atLineStart) {
+            writeIndent();
+        }
+        out.write(c);
+        atLineStart = c == '\n';
+    }
+
+    @Override
+    public void write(String s, int off, int len) throws IOException {
+        var end = off + len;
+        while (off < end) {
+            if (atLineStart) {
+                writeIndent();
+            }
+            var newline = s.indexOf('\n', off);
+            if (newline < 0 || newline >= end) {
+                out.write(s, off, end - off);
+                atLineStart = false;
+                return;
+            }
+            out.write(s, off, newline + 1 - off);
+            atLineStart = true;
+            off = newline + 1;
+        }
+    }
+
+    @Override
+    public void write(char[] buf, int off, int len) throws IOException {
+        write(new String(buf, off, len));
+    }
+
+    @Override
+    public IndentingWriter append(CharSequence csq) throws IOException {
+        write(String.valueOf(csq));
+        return this;
+    }
+
+    private void writeIndent() throws IOException {
+        for (int i = 0; i < indent; i++) {
+            out.write(' ');
+        }
+        atLineStart = false;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -1,8 +1,18 @@
 package org.openapifactory.api;
 
+import org.openapifactory.api.parser.SpecFileCache;
+
 import java.io.IOException;
 import java.nio.file.Path;
 
 public interface OpenapiFactory {
-    void generate(Path spec, Path outputRoot) throws IOException;
+    default GeneratorOutput generate(Path spec, Path outputRoot) throws IOException {
+        return generate(spec, outputRoot, new SpecFileCache());
+    }
+
+    /**
+     * @param specFiles externally referenced spec files, which may be shared by concurrent calls
+     * @return the output, with the files that were changed by this call
+     */
+    GeneratorOutput generate(Path spec, Path outputRoot, SpecFileCache specFiles) throws IOException;
 }
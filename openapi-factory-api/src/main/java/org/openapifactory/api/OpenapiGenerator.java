@@ -0,0 +1,30 @@
+package org.openapifactory.api;
+
+import org.openapifactory.api.codegen.OpenapiSpec;
+
+import java.util.List;
+
+/**
+ * A target that files are generated for from a parsed spec. Implementations are found by
+ * {@link OpenapiGeneratorRegistry#load()} when listed in
+ * <code>META-INF/services/org.openapifactory.api.OpenapiGenerator</code>.
+ */
+public interface OpenapiGenerator {
+
+    /**
+     * @return the name that selects this target, such as <code>typescript</code>
+     */
+    String getName();
+
+    /**
+     * @param spec a sealed spec, which may be shared with other targets generating at the same time
+     */
+    List<FileGenerator> createFileGenerators(OpenapiSpec spec);
+
+    /**
+     * @return identifies the code of the generator in the {@link GenerationCache}
+     */
+    default String getVersion() {
+        return GenerationCache.generatorVersion(getClass(), OpenapiSpecParser.class);
+    }
+}
@@ -0,0 +1,211 @@
+package org.openapifactory.api;
+
+import org.openapifactory.api.codegen.OpenapiSpec;
+import org.openapifactory.api.parser.SpecFileCache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Generates several targets from one spec. The spec is parsed once and shared by all targets that are
+ * not up to date in their {@link GenerationCache}, and the files of all targets are generated together.
+ */
+public class OpenapiGeneratorRegistry {
+
+    private final Map<String, OpenapiGenerator> generators = new LinkedHashMap<>();
+    private final OpenapiSpecParser parser;
+    private final Executor executor;
+    private final boolean useGenerationCache;
+
+    public OpenapiGeneratorRegistry(List<? extends OpenapiGenerator> generators) {
+        this(generators, null, false);
+    }
+
+    /**
+     * @param executor if not null, the files of all targets are rendered and written concurrently on this executor
+     * @param useGenerationCache skip targets when the spec, the files it references, the generator and the
+     *                           generated files are unchanged since the last run into the same output directory
+     */
+    public OpenapiGeneratorRegistry(List<? extends OpenapiGenerator> generators, Executor executor, boolean useGenerationCache) {
+        this(generators, new OpenapiSpecParser(), executor, useGenerationCache);
+    }
+
+    /**
+     * @param parser parses the spec that is shared by all targets, for example a subclass that reads extensions
+     */
+    public OpenapiGeneratorRegistry(List<? extends OpenapiGenerator> generators, OpenapiSpecParser parser, Executor executor, boolean useGenerationCache) {
+        for (var generator : generators) {
+            if (this.generators.putIfAbsent(generator.getName(), generator) != null) {
+                throw new IllegalArgumentException("Duplicate generator " + generator.getName());
+            }
+        }
+        this.parser = parser;
+        this.executor = executor;
+        this.useGenerationCache = useGenerationCache;
+    }
+
+    /**
+     * @return the generators registered with {@link ServiceLoader} on the class path
+     */
+    public static OpenapiGeneratorRegistry load() {
+        return load(null, false);
+    }
+
+    public static OpenapiGeneratorRegistry load(Executor executor, boolean useGenerationCache) {
+        return new OpenapiGeneratorRegistry(ServiceLoader.load(OpenapiGenerator.class).stream().map(ServiceLoader.Provider::get).toList(), executor, useGenerationCache);
+    }
+
+    public Set<String> getNames() {
+        return generators.keySet();
+    }
+
+    public OpenapiGenerator get(String name) {
+        var generator = generators.get(name);
+        if (generator == null) {
+            throw new IllegalArgumentException("Unknown generator " + name + " in " + getNames());
+        }
+        return generator;
+    }
+
+    public Map<String, GeneratorOutput> generate(Path specPath, Map<String, Path> outputRoots) throws IOException {
+        return generate(specPath, outputRoots, new SpecFileCache());
+    }
+
+    /**
+     * @param outputRoots the output directory of each target to generate, by generator name.
+     *                    Each target needs its own directory, as that's where its generation cache is kept
+     * @return the output of each target, in the same order as the output roots
+     */
+    public Map<String, GeneratorOutput> generate(Path specPath, Map<String, Path> outputRoots, SpecFileCache specFiles) throws IOException {
+        var rootSpec = specPath.toUri().toURL();
+        var result = new LinkedHashMap<String, GeneratorOutput>();
+        var targets = new ArrayList<Target>();
+        for (var entry : outputRoots.entrySet()) {
+            var generator = get(entry.getKey());
+            Files.createDirectories(entry.getValue());
+            var output = new GeneratorOutput(entry.getValue());
+            result.put(entry.getKey(), output);
+
+            // The output also depends on the parser, which may be a subclass that reads extensions
+            var version = generator.getVersion() + " " + GenerationCache.generatorVersion(parser.getClass());
+            var cache = isCacheable(specPath) ? new GenerationCache(entry.getValue(), version) : null;
+            if (cache != null) {
+                if (cache.restoreUpToDateOutput(rootSpec, output)) {
+                    continue;
+                }
+                cache.invalidate();
+            }
+            targets.add(new Target(generator, output, cache));
+        }
+        if (targets.isEmpty()) {
+            return result;
+        }
+
+        var spec = readSnapshot(targets, rootSpec);
+        if (spec == null) {
+            spec = parser.createOpenApiSpec(rootSpec, specFiles);
+            spec.setName(removeExtension(specPath.getFileName()));
+        }
+        var files = new ArrayList<TargetFile>();
+        for (var target : targets) {
+            target.output().addInputFile(rootSpec);
+            spec.getExternalFiles().forEach(target.output()::addInputFile);
+            for (var file : target.generator().createFileGenerators(spec)) {
+                files.add(new TargetFile(file, target.output()));
+            }
+        }
+        generateFiles(files);
+
+        for (var target : targets) {
+            if (target.cache() != null) {
+                target.cache().update(target.output());
+                SpecSnapshot.write(spec, parser, rootSpec, SpecSnapshot.snapshotFile(target.output().getRoot()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the spec from the {@link SpecSnapshot} of a target if the spec files haven't changed and it was
+     * written by the same version of this registry's parser,
+     * so that only the generator needs to run when it has changed. A snapshot that can't be read, for
+     * example because it was written by another version of the parser, is deleted and the spec is parsed again
+     */
+    private OpenapiSpec readSnapshot(List<Target> targets, URL rootSpec) throws IOException {
+        for (var target : targets) {
+            if (target.cache() != null) {
+                var snapshotFile = SpecSnapshot.snapshotFile(target.output().getRoot());
+                try {
+                    var spec = SpecSnapshot.readIfUpToDate(snapshotFile, parser, rootSpec);
+                    if (spec.isPresent()) {
+                        return spec.get();
+                    }
+                } catch (Exception e) {
+                    Files.deleteIfExists(snapshotFile);
+                }
+            }
+        }
+        return null;
+    }
+
+    private record Target(OpenapiGenerator generator, GeneratorOutput output, GenerationCache cache) {
+    }
+
+    private record TargetFile(FileGenerator file, GeneratorOutput output) {
+        private void generate() throws IOException {
+            file.generate(output);
+        }
+    }
+
+    /**
+     * Specs in <code>.link</code> files are fetched from a remote server, so a local digest can't tell if they changed
+     */
+    private boolean isCacheable(Path specPath) {
+        return useGenerationCache && !specPath.getFileName().toString().endsWith(".link");
+    }
+
+    private void generateFiles(List<TargetFile> files) throws IOException {
+        if (executor == null) {
+            for (var file : files) {
+                file.generate();
+            }
+            return;
+        }
+        var tasks = files.stream()
+                .map(file -> CompletableFuture.runAsync(() -> {
+                    try {
+                        file.generate();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException ioException) {
+                throw ioException.getCause();
+            } else if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private static String removeExtension(Path fileName) {
+        var pos = fileName.toString().lastIndexOf(".");
+        return fileName.toString().substring(0, pos);
+    }
+}
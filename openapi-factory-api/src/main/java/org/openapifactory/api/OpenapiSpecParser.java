@@ -5,21 +5,24 @@ import org.openapifactory.api.codegen.CodegenContact;
 import org.openapifactory.api.codegen.CodegenOperation;
 import org.openapifactory.api.codegen.CodegenParameter;
 import org.openapifactory.api.codegen.CodegenProp;
-import org.openapifactory.api.codegen.CodegenObjectSchema;
 import org.openapifactory.api.codegen.CodegenSecurityScheme;
 import org.openapifactory.api.codegen.CodegenXml;
 import org.openapifactory.api.codegen.OpenapiSpec;
+import org.openapifactory.api.codegen.SchemaReferenceRegistry.Tracked;
 import org.openapifactory.api.codegen.types.CodegenAnonymousObjectModel;
 import org.openapifactory.api.codegen.types.CodegenArraySchema;
 import org.openapifactory.api.codegen.types.CodegenConstantSchema;
 import org.openapifactory.api.codegen.types.CodegenEmbeddedEnumSchema;
 import org.openapifactory.api.codegen.types.CodegenModel;
+import org.openapifactory.api.codegen.types.CodegenObjectSchema;
 import org.openapifactory.api.codegen.types.CodegenOneOfModel;
 import org.openapifactory.api.codegen.types.CodegenPrimitiveSchema;
 import org.openapifactory.api.codegen.types.CodegenRecordSchema;
 import org.openapifactory.api.codegen.types.CodegenSchema;
 import org.openapifactory.api.codegen.types.CodegenSchemaRef;
+import org.openapifactory.api.codegen.types.InternedSchemaRef;
 import org.openapifactory.api.parser.Maybe;
+import org.openapifactory.api.parser.SpecFileCache;
 import org.openapifactory.api.parser.SpecMappingNode;
 import org.openapifactory.api.parser.SpecSequenceNode;
 
@@ -28,27 +31,53 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 public class OpenapiSpecParser {
 
     public static final String DEFAULT_SPEC_DESCRIPTION = "No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)";
 
+    private ForkJoinPool pool;
+
+    /**
+     * @param pool if set, the models in <code>components/schemas</code> and the path items are read in parallel
+     *             on this pool. The models and operations are in the same order as when they are read one by one
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
     public OpenapiSpec createOpenApiSpec(Path apiDocument) throws IOException {
-        return createOpenApiSpec(apiDocument.toUri().toURL());
+        return createOpenApiSpec(apiDocument, new SpecFileCache());
+    }
+
+    public OpenapiSpec createOpenApiSpec(Path apiDocument, SpecFileCache specFiles) throws IOException {
+        return createOpenApiSpec(apiDocument.toUri().toURL(), specFiles);
     }
 
     public OpenapiSpec createOpenApiSpec(URL url) throws IOException {
-        return createSpec(url, readSpec(url));
+        return createOpenApiSpec(url, new SpecFileCache());
+    }
+
+    public OpenapiSpec createOpenApiSpec(URL url, SpecFileCache specFiles) throws IOException {
+        return createSpec(url, specFiles.read(url, ""), specFiles);
     }
 
-    protected OpenapiSpec createSpec(URL baseUrl, SpecMappingNode node) throws IOException {
+    protected OpenapiSpec createSpec(URL baseUrl, SpecMappingNode node, SpecFileCache specFiles) throws IOException {
         var spec = new OpenapiSpec();
         readSpec(node, spec);
-        resolveExternalReferences(baseUrl, spec);
+        resolveExternalReferences(baseUrl, spec, specFiles);
+        spec.seal();
         return spec;
     }
 
@@ -78,6 +107,10 @@ public class OpenapiSpecParser {
             var maybeSchemas = components.required().mappingNode("schemas");
             if (maybeSchemas.isPresent()) {
                 var schemas = maybeSchemas.required();
+                if (pool != null) {
+                    readModelsInParallel(schemas, spec);
+                    return;
+                }
                 for (var modelName : schemas.keySet()) {
                     var modelNode = schemas.mappingNode(modelName).required();
                     createModel(spec, modelName, modelNode);
@@ -87,6 +120,44 @@ public class OpenapiSpecParser {
         }
     }
 
+    /**
+     * Looks up the model nodes one by one, as the schemas node tracks which keys are used, and creates
+     * the models in parallel. The models and the references to other files are then put back in the order
+     * they're declared in, so the order of the threads doesn't show.
+     */
+    private void readModelsInParallel(SpecMappingNode schemas, OpenapiSpec spec) {
+        var previousModelCount = spec.getModelMap().size();
+        var references = spec.getSchemaReferences();
+        var tasks = new ArrayList<CompletableFuture<Tracked<CodegenModel>>>();
+        for (var modelName : schemas.keySet()) {
+            var modelNode = schemas.mappingNode(modelName).required();
+            tasks.add(CompletableFuture.supplyAsync(() -> references.track(() -> {
+                var model = createModel(spec, modelName, modelNode);
+                modelNode.checkUnused();
+                return model;
+            }), pool));
+        }
+        var models = joinInOrder(tasks);
+        spec.reorderModels(previousModelCount, models.stream().<CodegenModel>map(Tracked::result).toList());
+        references.orderPending(models);
+    }
+
+    /**
+     * If any task fails, the first failure in the order of the tasks is thrown, as if they had been run one by one
+     */
+    @SneakyThrows
+    private static <T> List<T> joinInOrder(List<CompletableFuture<T>> tasks) {
+        var result = new ArrayList<T>(tasks.size());
+        for (var task : tasks) {
+            try {
+                result.add(task.get());
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            }
+        }
+        return result;
+    }
+
     protected CodegenModel createModel(OpenapiSpec spec, String modelName, SpecMappingNode node) {
         var type = node.string("type");
         node.mappingNode("externalDocs");
@@ -182,40 +253,84 @@ public class OpenapiSpecParser {
     }
 
     protected void readPaths(SpecMappingNode paths, OpenapiSpec spec) {
+        if (pool != null) {
+            readPathsInParallel(paths, spec);
+            return;
+        }
         for (var pathExpression : paths.keySet()) {
             var pathNode = paths.mappingNode(pathExpression).required();
-            var specialValues = Set.of("$ref", "summary", "description", "servers", "parameters");
-
-            var commonParameters = new ArrayList<CodegenParameter>();
-            var parameters = pathNode.sequenceNode("parameters");
-            if (parameters.isPresent()) {
-                for (var paramNode : parameters.required().mappingNodes()) {
-                    var parameter = new CodegenParameter(spec, paramNode.string("name").required());
-                    readParameter(paramNode, parameter);
-                    commonParameters.add(parameter);
-                }
+            for (var operation : readPathItem(pathExpression, pathNode, spec)) {
+                addOperation(spec, operation);
             }
+        }
+    }
 
-            for (var method : pathNode.keySet()) {
-                if (specialValues.contains(method)) {
-                    continue;
-                }
-                var operationNode = pathNode.mappingNode(method).required();
-                var tags = operationNode.sequenceNode("tags")
-                        .map(SpecSequenceNode::stringList)
-                        .orElse(List.of("Default"));
-
-                var operation = spec.createOperation(method, pathExpression);
-                operationNode.string("description").ifPresent(operation::setDescription);
-                operation.getParameters().addAll(commonParameters);
-                readCodegenOperation(operationNode, operation);
-                for (var tag : tags) {
-                    spec.addOperation(tag, operation);
-                }
-                operationNode.checkUnused();
+    /**
+     * Reads the path items in parallel, and adds the operations to the spec in the order of the paths.
+     * The request and response models of the operations are added again in the same order, so the
+     * last one wins if two operations have models with the same name, as when read one by one.
+     */
+    private void readPathsInParallel(SpecMappingNode paths, OpenapiSpec spec) {
+        var previousModelCount = spec.getModelMap().size();
+        var references = spec.getSchemaReferences();
+        var tasks = new ArrayList<CompletableFuture<Tracked<List<TaggedOperation>>>>();
+        for (var pathExpression : paths.keySet()) {
+            var pathNode = paths.mappingNode(pathExpression).required();
+            tasks.add(CompletableFuture.supplyAsync(() -> references.track(() -> readPathItem(pathExpression, pathNode, spec)), pool));
+        }
+        var pathItems = joinInOrder(tasks);
+        var inlineModels = new ArrayList<CodegenModel>();
+        for (var operations : pathItems) {
+            for (var operation : operations.result()) {
+                addOperation(spec, operation);
+                inlineModels.addAll(operation.operation().getInlineModels());
+            }
+        }
+        spec.reorderModels(previousModelCount, inlineModels);
+        references.orderPending(pathItems);
+    }
+
+    private record TaggedOperation(CodegenOperation operation, List<String> tags) {
+    }
+
+    private static void addOperation(OpenapiSpec spec, TaggedOperation operation) {
+        for (var tag : operation.tags()) {
+            spec.addOperation(tag, operation.operation());
+        }
+    }
+
+    private List<TaggedOperation> readPathItem(String pathExpression, SpecMappingNode pathNode, OpenapiSpec spec) {
+        var specialValues = Set.of("$ref", "summary", "description", "servers", "parameters");
+
+        var commonParameters = new ArrayList<CodegenParameter>();
+        var parameters = pathNode.sequenceNode("parameters");
+        if (parameters.isPresent()) {
+            for (var paramNode : parameters.required().mappingNodes()) {
+                var parameter = new CodegenParameter(spec, paramNode.string("name").required());
+                readParameter(paramNode, parameter);
+                commonParameters.add(parameter);
             }
-            pathNode.checkUnused();
         }
+
+        var result = new ArrayList<TaggedOperation>();
+        for (var method : pathNode.keySet()) {
+            if (specialValues.contains(method)) {
+                continue;
+            }
+            var operationNode = pathNode.mappingNode(method).required();
+            var tags = operationNode.sequenceNode("tags")
+                    .map(SpecSequenceNode::stringList)
+                    .orElse(List.of("Default"));
+
+            var operation = spec.createOperation(method, pathExpression);
+            operationNode.string("description").ifPresent(operation::setDescription);
+            operation.getParameters().addAll(commonParameters);
+            readCodegenOperation(operationNode, operation);
+            result.add(new TaggedOperation(operation, tags));
+            operationNode.checkUnused();
+        }
+        pathNode.checkUnused();
+        return result;
     }
 
     private void readCodegenOperation(SpecMappingNode operationNode, CodegenOperation operation) {
@@ -369,30 +484,40 @@ public class OpenapiSpecParser {
         infoNode.checkUnused();
     }
 
-    protected void resolveExternalReferences(URL baseUrl, OpenapiSpec spec) {
-        var specFiles = new HashMap<String, SpecMappingNode>();
-        Set<CodegenSchemaRef> unresolvedReferences;
-        while (!(unresolvedReferences = spec.getUnresolvedSchemaReferences()).isEmpty()) {
+    /**
+     * Resolves references to other files in rounds: all files that are referenced, but not yet read,
+     * are read in parallel before the referenced models are created in the order they were referenced.
+     * Models in the new files may reference more files, which are read in the next round.
+     */
+    protected void resolveExternalReferences(URL baseUrl, OpenapiSpec spec, SpecFileCache specFiles) {
+        var externalFiles = new HashMap<String, SpecMappingNode>();
+        List<InternedSchemaRef> unresolvedReferences;
+        while (!(unresolvedReferences = spec.getSchemaReferences().takePending()).isEmpty()) {
+            var newFiles = unresolvedReferences.stream()
+                    .map(OpenapiSpecParser::externalFilename)
+                    .filter(filename -> !externalFiles.containsKey(filename))
+                    .distinct()
+                    .toList();
+            externalFiles.putAll(readExternalSpecs(spec, specFiles, baseUrl, newFiles));
+
             for (var typeReference : unresolvedReferences) {
-                var matcher = OpenapiSpec.EXTERNAL_REF.matcher(typeReference.getRef());
-                if (matcher.matches()) {
-                    var specNode = specFiles.computeIfAbsent(
-                            matcher.group("filename"),
-                            filename -> readSpec(baseUrl, filename)
-                    );
-                    var path = matcher.group("anchor").split("/");
-                    for (var segment : path) {
-                        if (!segment.isEmpty()) {
-                            specNode = specNode.mappingNode(segment).required();
-                        }
-                    }
-                    var resolvedModel = createModel(spec, path[path.length - 1], specNode);
-                    spec.getResolvedSchemas().put(typeReference, resolvedModel);
+                var specNode = externalFiles.get(typeReference.getFilename());
+                for (var segment : typeReference.getAnchorPath()) {
+                    specNode = specNode.mappingNode(segment).required();
                 }
+                var resolvedModel = createModel(spec, typeReference.getClassName(), specNode);
+                spec.getSchemaReferences().resolve(typeReference, resolvedModel);
             }
         }
     }
 
+    private static String externalFilename(InternedSchemaRef ref) {
+        if (ref.getFilename() == null) {
+            throw new IllegalArgumentException("Not an external $ref " + ref.getRef());
+        }
+        return ref.getFilename();
+    }
+
     private CodegenXml readXml(SpecMappingNode xmlNode) {
         var result = new CodegenXml();
         xmlNode.string("name").ifPresent(result::setName);
@@ -404,13 +529,37 @@ public class OpenapiSpecParser {
         return result;
     }
 
+    /**
+     * Reads the files in parallel if there are more than one. If any file fails, the first failure
+     * in the order of the filenames is thrown, as if the files had been read one by one
+     */
     @SneakyThrows
-    private static SpecMappingNode readSpec(URL url) {
-        return SpecMappingNode.read(url, "");
-    }
-
-    @SneakyThrows
-    private static SpecMappingNode readSpec(URL baseUrl, String filename) {
-        return SpecMappingNode.read(new URL(baseUrl, filename), filename);
+    private static Map<String, SpecMappingNode> readExternalSpecs(OpenapiSpec spec, SpecFileCache specFiles, URL baseUrl, List<String> filenames) {
+        var urls = new LinkedHashMap<String, URL>();
+        for (var filename : filenames) {
+            var url = new URL(baseUrl, filename);
+            spec.getExternalFiles().add(url);
+            urls.put(filename, url);
+        }
+        var result = new LinkedHashMap<String, SpecMappingNode>();
+        if (urls.size() == 1) {
+            var filename = filenames.get(0);
+            result.put(filename, specFiles.read(urls.get(filename), filename));
+            return result;
+        }
+        var files = new LinkedHashMap<String, Future<SpecMappingNode>>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var entry : urls.entrySet()) {
+                files.put(entry.getKey(), executor.submit(() -> specFiles.read(entry.getValue(), entry.getKey())));
+            }
+        }
+        for (var file : files.entrySet()) {
+            try {
+                result.put(file.getKey(), file.getValue().get());
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            }
+        }
+        return result;
     }
 }
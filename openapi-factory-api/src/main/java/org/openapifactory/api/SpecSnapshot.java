@@ -0,0 +1,937 @@
+package org.openapifactory.api;
+
+import org.openapifactory.api.codegen.CodegenContact;
+import org.openapifactory.api.codegen.CodegenContent;
+import org.openapifactory.api.codegen.CodegenOperation;
+import org.openapifactory.api.codegen.CodegenProp;
+import org.openapifactory.api.codegen.CodegenParameter;
+import org.openapifactory.api.codegen.CodegenProperty;
+import org.openapifactory.api.codegen.CodegenResponse;
+import org.openapifactory.api.codegen.CodegenSecurity;
+import org.openapifactory.api.codegen.CodegenSecurityScheme;
+import org.openapifactory.api.codegen.CodegenXml;
+import org.openapifactory.api.codegen.OpenapiSpec;
+import org.openapifactory.api.codegen.types.CodegenAllOfModel;
+import org.openapifactory.api.codegen.types.CodegenAnonymousObjectModel;
+import org.openapifactory.api.codegen.types.CodegenArrayModel;
+import org.openapifactory.api.codegen.types.CodegenArraySchema;
+import org.openapifactory.api.codegen.types.CodegenConstantSchema;
+import org.openapifactory.api.codegen.types.CodegenEmbeddedEnumSchema;
+import org.openapifactory.api.codegen.types.CodegenEnumModel;
+import org.openapifactory.api.codegen.types.CodegenGenericModel;
+import org.openapifactory.api.codegen.types.CodegenModel;
+import org.openapifactory.api.codegen.types.CodegenObjectSchema;
+import org.openapifactory.api.codegen.types.CodegenOneOfModel;
+import org.openapifactory.api.codegen.types.CodegenPrimitiveSchema;
+import org.openapifactory.api.codegen.types.CodegenRecordSchema;
+import org.openapifactory.api.codegen.types.CodegenSchema;
+import org.openapifactory.api.codegen.types.CodegenSchemaRef;
+import org.openapifactory.api.codegen.types.InternedSchemaRef;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A compact binary copy of a parsed {@link OpenapiSpec}, which is read back without parsing the spec files.
+ * It's kept next to the {@link GenerationCache}, so an unchanged spec isn't parsed again when the generator
+ * has changed, and it can be handed from a build step that parses the spec to one that generates from it.
+ * <p>
+ * Models, anonymous objects, properties, parameters and operations are written to a table, so objects that
+ * are shared or refer back to each other are still the same objects when read. Each string is written
+ * the first time it's used and referred to by number after that.
+ */
+public class SpecSnapshot {
+
+    public static final String FILENAME = "spec-snapshot";
+
+    private static final int MAGIC = 0x4f41534e;
+    private static final int FORMAT_VERSION = 2;
+    private static final ClassValue<String> PARSER_VERSIONS = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> parserClass) {
+            return GenerationCache.generatorVersion(parserClass, OpenapiSpecParser.class, SpecSnapshot.class);
+        }
+    };
+
+    private enum Kind {
+        GENERIC_MODEL, ALL_OF_MODEL, ONE_OF_MODEL, ENUM_MODEL, ARRAY_MODEL, ANONYMOUS_OBJECT, PROPERTY, PARAMETER, OPERATION
+    }
+
+    private static final int NULL = 0, NODE = 1, REF = 2, PRIMITIVE = 3, ARRAY = 4, RECORD = 5, CONSTANT = 6, EMBEDDED_ENUM = 7;
+
+    /**
+     * @return where the snapshot is kept for an output directory
+     */
+    public static Path snapshotFile(Path outputRoot) {
+        return outputRoot.resolve(GenerationCache.CACHE_DIRECTORY).resolve(FILENAME);
+    }
+
+    /**
+     * Writes the spec together with the parser that read it and the digests of the root spec and the files it references
+     */
+    public static void write(OpenapiSpec spec, OpenapiSpecParser parser, URL rootSpec, Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        var tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (var output = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                write(spec, parser, rootSpec, output);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    public static void write(OpenapiSpec spec, OpenapiSpecParser parser, URL rootSpec, OutputStream output) throws IOException {
+        var writer = new Writer(new DataOutputStream(output));
+        writer.writeHeader(parser, rootSpec, spec);
+        writer.writeSpec(spec);
+        writer.out.flush();
+    }
+
+    /**
+     * @return the spec, sealed, regardless of whether the files it was parsed from have changed
+     */
+    public static OpenapiSpec read(Path file) throws IOException {
+        try (var input = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(input);
+        }
+    }
+
+    public static OpenapiSpec read(InputStream input) throws IOException {
+        var reader = new Reader(new DataInputStream(input));
+        reader.readHeader();
+        return reader.readSpec();
+    }
+
+    /**
+     * @return the spec if the snapshot was written from the same root spec by the same version of the same
+     * parser class, and none of the files it was parsed from have changed since
+     */
+    public static Optional<OpenapiSpec> readIfUpToDate(Path file, OpenapiSpecParser parser, URL rootSpec) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (var input = new BufferedInputStream(Files.newInputStream(file))) {
+            var reader = new Reader(new DataInputStream(input));
+            var header = reader.readHeader();
+            if (!header.parserClass().equals(parser.getClass().getName())
+                || !header.parserVersion().equals(PARSER_VERSIONS.get(parser.getClass()))
+                || header.inputs().isEmpty()
+                || !header.inputs().keySet().iterator().next().equals(rootSpec.toString())) {
+                return Optional.empty();
+            }
+            for (var inputFile : header.inputs().entrySet()) {
+                if (!inputFile.getValue().equals(GenerationCache.digest(URI.create(inputFile.getKey()).toURL()))) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(reader.readSpec());
+        }
+    }
+
+    private record Header(String parserClass, String parserVersion, Map<String, String> inputs) {
+    }
+
+    private static class Writer {
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final Map<Object, Integer> nodeIds = new IdentityHashMap<>();
+        private final List<Object> nodes = new ArrayList<>();
+        private final Map<InternedSchemaRef, CodegenModel> resolvedReferences = new LinkedHashMap<>();
+
+        private Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        private void writeHeader(OpenapiSpecParser parser, URL rootSpec, OpenapiSpec spec) throws IOException {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            writeString(parser.getClass().getName());
+            writeString(PARSER_VERSIONS.get(parser.getClass()));
+            var inputs = new ArrayList<URL>();
+            inputs.add(rootSpec);
+            inputs.addAll(spec.getExternalFiles());
+            writeCount(inputs.size());
+            for (var input : inputs) {
+                writeString(input.toString());
+                writeString(GenerationCache.digest(input));
+            }
+        }
+
+        private void writeSpec(OpenapiSpec spec) throws IOException {
+            writeString(spec.getName());
+            writeString(spec.getTitle());
+            writeString(spec.getDescription());
+            writeString(spec.getVersion());
+            out.writeBoolean(spec.getContact().isPresent());
+            if (spec.getContact().isPresent()) {
+                writeString(spec.getContact().get().getName());
+                writeString(spec.getContact().get().getEmail());
+            }
+            writeCount(spec.getServers().size());
+            for (var server : spec.getServers()) {
+                writeString(server.getDescription().orElse(null));
+                writeString(server.getUrl());
+            }
+            writeCount(spec.getSecuritySchemes().size());
+            for (var scheme : spec.getSecuritySchemes()) {
+                writeString(scheme.getKey());
+                writeString(scheme.getType());
+                writeString(scheme.getName());
+                writeEnum(scheme.getIn());
+            }
+            writeCount(spec.getExternalFiles().size());
+            for (var externalFile : spec.getExternalFiles()) {
+                writeString(externalFile.toString());
+            }
+
+            spec.getModelMap().values().forEach(this::visitNode);
+            spec.getApiMap().values().forEach(api -> api.getOperations().forEach(this::visitNode));
+            resolvedReferences.values().forEach(this::visitNode);
+
+            writeCount(nodes.size());
+            for (var node : nodes) {
+                writeNodeHeader(node);
+            }
+            for (var node : nodes) {
+                writeNodeBody(node);
+            }
+
+            writeCount(spec.getModelMap().size());
+            for (var model : spec.getModelMap().values()) {
+                writeCount(nodeId(model));
+            }
+            writeCount(spec.getApiMap().size());
+            for (var api : spec.getApiMap().values()) {
+                writeString(api.getTag());
+                writeCount(api.getOperations().size());
+                for (var operation : api.getOperations()) {
+                    writeCount(nodeId(operation));
+                }
+            }
+            writeCount(resolvedReferences.size());
+            for (var reference : resolvedReferences.entrySet()) {
+                writeString(reference.getKey().getRef());
+                writeCount(nodeId(reference.getValue()));
+            }
+        }
+
+        /**
+         * Adds the node to the table before the nodes it contains, and the model of a property before the property
+         */
+        private void visitNode(Object node) {
+            if (nodeIds.containsKey(node)) {
+                return;
+            }
+            if (node instanceof CodegenProperty property) {
+                visitNode(property.getModel());
+                if (nodeIds.containsKey(node)) {
+                    return;
+                }
+            }
+            nodeIds.put(node, nodes.size());
+            nodes.add(node);
+            switch (node) {
+                case CodegenGenericModel model -> model.getProperties().values().forEach(this::visitNode);
+                case CodegenAllOfModel model -> {
+                    model.getRefSuperModels().forEach(this::visitSchema);
+                    model.getInlineSuperModels().forEach(this::visitNode);
+                }
+                case CodegenOneOfModel model -> {
+                    model.getOneOf().forEach(this::visitSchema);
+                    model.getDiscriminator().getMapping().values().forEach(this::visitSchema);
+                }
+                case CodegenArrayModel model -> visitSchema(model.getItems());
+                case CodegenAnonymousObjectModel object -> object.getProperties().values().forEach(this::visitNode);
+                case CodegenProperty property -> visitSchema(property.getSchema());
+                case CodegenParameter parameter -> visitSchema(parameter.getSchema());
+                case CodegenOperation operation -> {
+                    operation.getParameters().forEach(this::visitNode);
+                    operation.getRequestBodies().values().forEach(content -> visitSchema(content.getSchema()));
+                    for (var response : operation.getResponses()) {
+                        response.getResponseTypes().values().forEach(content -> visitSchema(content.getSchema()));
+                    }
+                    operation.getInlineModels().forEach(this::visitNode);
+                }
+                default -> {
+                }
+            }
+        }
+
+        private void visitSchema(CodegenSchema schema) {
+            switch (schema) {
+                case null -> {
+                }
+                case CodegenModel model -> visitNode(model);
+                case CodegenAnonymousObjectModel object -> visitNode(object);
+                case CodegenSchemaRef ref -> {
+                    var target = ref.getTarget();
+                    if (!target.isLocal() && target.isResolved()) {
+                        resolvedReferences.putIfAbsent(target, target.getModel());
+                    }
+                }
+                case CodegenArraySchema array -> visitSchema(array.getItems());
+                case CodegenRecordSchema record -> visitSchema(record.getAdditionalProperties());
+                case CodegenEmbeddedEnumSchema embeddedEnum -> {
+                    if (embeddedEnum.getDeclaredProperty() != null) {
+                        visitNode(embeddedEnum.getDeclaredProperty());
+                    }
+                }
+                case CodegenPrimitiveSchema ignored -> {
+                }
+                case CodegenConstantSchema ignored -> {
+                }
+            }
+        }
+
+        private void writeNodeHeader(Object node) throws IOException {
+            switch (node) {
+                case CodegenGenericModel model -> writeKind(Kind.GENERIC_MODEL, model.getName());
+                case CodegenAllOfModel model -> writeKind(Kind.ALL_OF_MODEL, model.getName());
+                case CodegenOneOfModel model -> writeKind(Kind.ONE_OF_MODEL, model.getName());
+                case CodegenEnumModel model -> writeKind(Kind.ENUM_MODEL, model.getName());
+                case CodegenArrayModel model -> writeKind(Kind.ARRAY_MODEL, model.getName());
+                case CodegenAnonymousObjectModel ignored -> writeKind(Kind.ANONYMOUS_OBJECT, null);
+                case CodegenProperty property -> {
+                    writeKind(Kind.PROPERTY, property.getName());
+                    writeCount(nodeId(property.getModel()));
+                }
+                case CodegenParameter parameter -> writeKind(Kind.PARAMETER, parameter.getName());
+                case CodegenOperation operation -> {
+                    writeKind(Kind.OPERATION, operation.getMethod());
+                    writeString(operation.getPath());
+                }
+                default -> throw new IllegalArgumentException("Unexpected node " + node);
+            }
+        }
+
+        private void writeKind(Kind kind, String name) throws IOException {
+            out.writeByte(kind.ordinal());
+            writeString(name);
+        }
+
+        private void writeNodeBody(Object node) throws IOException {
+            switch (node) {
+                case CodegenGenericModel model -> {
+                    writeString(model.getDescription());
+                    writeXml(model.getXml());
+                    writeNullableBoolean(model.getAdditionalPropertiesFlag());
+                    writeProperties(model.getProperties());
+                }
+                case CodegenAllOfModel model -> {
+                    writeCount(model.getRefSuperModels().size());
+                    for (var ref : model.getRefSuperModels()) {
+                        writeString(ref.getRef());
+                    }
+                    writeCount(model.getInlineSuperModels().size());
+                    for (var superModel : model.getInlineSuperModels()) {
+                        writeCount(nodeId(superModel));
+                    }
+                    writeStrings(model.getRequired());
+                    writeNullableBoolean(model.getAdditionalPropertiesFlag());
+                }
+                case CodegenOneOfModel model -> {
+                    writeString(model.getDiscriminator().getPropertyName());
+                    writeCount(model.getDiscriminator().getMapping().size());
+                    for (var mapping : model.getDiscriminator().getMapping().entrySet()) {
+                        writeString(mapping.getKey());
+                        writeString(mapping.getValue().getRef());
+                    }
+                    writeCount(model.getOneOf().size());
+                    for (var ref : model.getOneOf()) {
+                        writeString(ref.getRef());
+                    }
+                }
+                case CodegenEnumModel model -> {
+                    writeString(model.getType());
+                    writeStrings(model.getValues());
+                    writeString(model.getDescription());
+                }
+                case CodegenArrayModel model -> {
+                    writeArray(model);
+                    writeString(model.getDescription());
+                }
+                case CodegenAnonymousObjectModel object -> {
+                    writeNullableBoolean(object.getAdditionalPropertiesFlag());
+                    writeProperties(object.getProperties());
+                }
+                case CodegenProperty property -> {
+                    writeSchema(property.getSchema());
+                    writeString(property.getDescription());
+                    writeString(property.getExample());
+                    out.writeBoolean(property.isRequired());
+                    out.writeBoolean(property.isReadOnly());
+                    out.writeBoolean(property.isWriteOnly());
+                    out.writeBoolean(property.isNullable());
+                    writeNullableInt(property.getMaxLength());
+                    writeXml(property.getXml());
+                }
+                case CodegenParameter parameter -> {
+                    writeString(parameter.getDescription());
+                    out.writeBoolean(parameter.isRequired());
+                    writeSchema(parameter.getSchema());
+                    writeEnum(parameter.getIn());
+                    writeEnum(parameter.getStyle());
+                    out.writeBoolean(parameter.isExplode());
+                }
+                case CodegenOperation operation -> writeOperation(operation);
+                default -> throw new IllegalArgumentException("Unexpected node " + node);
+            }
+        }
+
+        private void writeOperation(CodegenOperation operation) throws IOException {
+            writeString(operation.getOperationId());
+            writeString(operation.getSummary());
+            writeString(operation.getDescription());
+            out.writeBoolean(operation.isDeprecated());
+            writeCount(operation.getSecurity().size());
+            for (var security : operation.getSecurity()) {
+                writeString(security.getName());
+                writeStrings(security.getScopes());
+            }
+            writeCount(operation.getParameters().size());
+            for (var parameter : operation.getParameters()) {
+                writeCount(nodeId(parameter));
+            }
+            writeContents(operation.getRequestBodies());
+            writeCount(operation.getResponses().size());
+            for (var response : operation.getResponses()) {
+                writeCount(response.getResponseCode());
+                writeContents(response.getResponseTypes());
+            }
+            writeCount(operation.getInlineModels().size());
+            for (var model : operation.getInlineModels()) {
+                writeCount(nodeId(model));
+            }
+        }
+
+        private void writeContents(Map<String, CodegenContent> contents) throws IOException {
+            writeCount(contents.size());
+            for (var content : contents.entrySet()) {
+                writeString(content.getKey());
+                writeString(content.getValue().getContentType());
+                writeSchema(content.getValue().getSchema());
+                out.writeBoolean(content.getValue().isRequired());
+            }
+        }
+
+        private void writeProperties(Map<String, CodegenProperty> properties) throws IOException {
+            writeCount(properties.size());
+            for (var property : properties.entrySet()) {
+                writeString(property.getKey());
+                writeCount(nodeId(property.getValue()));
+            }
+        }
+
+        private void writeSchema(CodegenSchema schema) throws IOException {
+            switch (schema) {
+                case null -> out.writeByte(NULL);
+                case CodegenModel model -> {
+                    out.writeByte(NODE);
+                    writeCount(nodeId(model));
+                }
+                case CodegenAnonymousObjectModel object -> {
+                    out.writeByte(NODE);
+                    writeCount(nodeId(object));
+                }
+                case CodegenSchemaRef ref -> {
+                    out.writeByte(REF);
+                    writeString(ref.getRef());
+                }
+                case CodegenPrimitiveSchema primitive -> {
+                    out.writeByte(PRIMITIVE);
+                    writeString(primitive.getType());
+                    writeString(primitive.getFormat());
+                }
+                case CodegenArraySchema array -> {
+                    out.writeByte(ARRAY);
+                    writeArray(array);
+                }
+                case CodegenRecordSchema record -> {
+                    out.writeByte(RECORD);
+                    writeSchema(record.getAdditionalProperties());
+                }
+                case CodegenConstantSchema constant -> {
+                    out.writeByte(CONSTANT);
+                    writeString(constant.getValue());
+                }
+                case CodegenEmbeddedEnumSchema embeddedEnum -> {
+                    out.writeByte(EMBEDDED_ENUM);
+                    writeString(embeddedEnum.getType());
+                    writeStrings(embeddedEnum.getValues());
+                    writeString(embeddedEnum.getDescription());
+                    var declaredProperty = embeddedEnum.getDeclaredProperty();
+                    writeCount(declaredProperty == null ? 0 : nodeId(declaredProperty) + 1);
+                }
+            }
+        }
+
+        private void writeArray(CodegenArraySchema array) throws IOException {
+            out.writeBoolean(array.isUniqueItems());
+            writeSchema(array.getItems());
+            writeCount(array.getMinItems());
+            writeNullableInt(array.getMaxItems());
+        }
+
+        private void writeXml(CodegenXml xml) throws IOException {
+            out.writeBoolean(xml != null);
+            if (xml != null) {
+                writeString(xml.getName());
+                writeString(xml.getNamespace());
+                writeString(xml.getPrefix());
+                out.writeBoolean(xml.isAttribute());
+                out.writeBoolean(xml.isWrapped());
+            }
+        }
+
+        private int nodeId(Object node) {
+            var id = nodeIds.get(node);
+            if (id == null) {
+                throw new IllegalStateException("Not in snapshot: " + node);
+            }
+            return id;
+        }
+
+        private void writeStrings(Iterable<String> values) throws IOException {
+            var list = new ArrayList<String>();
+            values.forEach(list::add);
+            writeCount(list.size());
+            for (var value : list) {
+                writeString(value);
+            }
+        }
+
+        /**
+         * 0 for null, 1 followed by the UTF-8 bytes for a string that hasn't been written before,
+         * and the number of an earlier string plus 2 otherwise
+         */
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                writeCount(0);
+                return;
+            }
+            var index = strings.get(value);
+            if (index != null) {
+                writeCount(index + 2);
+                return;
+            }
+            strings.put(value, strings.size());
+            var bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeCount(1);
+            writeCount(bytes.length);
+            out.write(bytes);
+        }
+
+        private void writeNullableBoolean(Boolean value) throws IOException {
+            out.writeByte(value == null ? 0 : value ? 2 : 1);
+        }
+
+        private void writeNullableInt(Integer value) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                out.writeInt(value);
+            }
+        }
+
+        private void writeEnum(Enum<?> value) throws IOException {
+            writeCount(value == null ? 0 : value.ordinal() + 1);
+        }
+
+        /**
+         * Writes a non-negative number in as few bytes as needed, seven bits at a time
+         */
+        private void writeCount(int value) throws IOException {
+            if (value < 0) {
+                throw new IllegalArgumentException("Negative count " + value);
+            }
+            while (value >= 0x80) {
+                out.writeByte((value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte(value);
+        }
+    }
+
+    private static class Reader {
+        private final DataInputStream in;
+        private final List<String> strings = new ArrayList<>();
+        private final OpenapiSpec spec = new OpenapiSpec();
+        private Object[] nodes;
+
+        private Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        private Header readHeader() throws IOException {
+            try {
+                if (in.readInt() != MAGIC) {
+                    throw new IOException("Not a spec snapshot");
+                }
+            } catch (EOFException e) {
+                throw new IOException("Not a spec snapshot", e);
+            }
+            var formatVersion = in.readInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IOException("Unsupported spec snapshot format " + formatVersion + ", expected " + FORMAT_VERSION);
+            }
+            var parserClass = readString();
+            var parserVersion = readString();
+            var inputs = new LinkedHashMap<String, String>();
+            var inputCount = readCount();
+            for (int i = 0; i < inputCount; i++) {
+                inputs.put(readString(), readString());
+            }
+            return new Header(parserClass, parserVersion, inputs);
+        }
+
+        private OpenapiSpec readSpec() throws IOException {
+            spec.setName(readString());
+            spec.setTitle(readString());
+            spec.setDescription(readString());
+            spec.setVersion(readString());
+            if (in.readBoolean()) {
+                var contact = new CodegenContact();
+                contact.setName(readString());
+                contact.setEmail(readString());
+                spec.setContact(Optional.of(contact));
+            }
+            var serverCount = readCount();
+            for (int i = 0; i < serverCount; i++) {
+                var server = spec.addServer();
+                server.setDescription(Optional.ofNullable(readString()));
+                server.setUrl(readString());
+            }
+            var schemeCount = readCount();
+            for (int i = 0; i < schemeCount; i++) {
+                var scheme = spec.addSecurityScheme(readString());
+                scheme.setType(readString());
+                scheme.setName(readString());
+                scheme.setIn(readEnum(CodegenSecurityScheme.Location.class));
+            }
+            var externalFileCount = readCount();
+            for (int i = 0; i < externalFileCount; i++) {
+                spec.getExternalFiles().add(URI.create(readString()).toURL());
+            }
+
+            nodes = new Object[readCount()];
+            for (int i = 0; i < nodes.length; i++) {
+                nodes[i] = readNodeHeader();
+            }
+            for (var node : nodes) {
+                readNodeBody(node);
+            }
+
+            var models = new ArrayList<CodegenModel>();
+            var modelCount = readCount();
+            for (int i = 0; i < modelCount; i++) {
+                models.add(node(CodegenModel.class));
+            }
+            spec.reorderModels(0, models);
+            var apiCount = readCount();
+            for (int i = 0; i < apiCount; i++) {
+                var tag = readString();
+                var operationCount = readCount();
+                for (int j = 0; j < operationCount; j++) {
+                    spec.addOperation(tag, node(CodegenOperation.class));
+                }
+            }
+            var references = spec.getSchemaReferences();
+            references.takePending();
+            var referenceCount = readCount();
+            for (int i = 0; i < referenceCount; i++) {
+                var reference = references.intern(readString());
+                references.resolve(reference, node(CodegenModel.class));
+            }
+            spec.seal();
+            return spec;
+        }
+
+        private Object readNodeHeader() throws IOException {
+            var kindIndex = in.readUnsignedByte();
+            if (kindIndex >= Kind.values().length) {
+                throw new IOException("Invalid spec snapshot: unknown node kind " + kindIndex);
+            }
+            var name = readString();
+            return switch (Kind.values()[kindIndex]) {
+                case GENERIC_MODEL -> new CodegenGenericModel(spec, name);
+                case ALL_OF_MODEL -> new CodegenAllOfModel(spec, name);
+                case ONE_OF_MODEL -> new CodegenOneOfModel(spec, name);
+                case ENUM_MODEL -> new CodegenEnumModel(spec, name);
+                case ARRAY_MODEL -> new CodegenArrayModel(spec, name);
+                case ANONYMOUS_OBJECT -> new CodegenAnonymousObjectModel(spec);
+                case PROPERTY -> new CodegenProperty(spec, node(CodegenObjectSchema.class), name);
+                case PARAMETER -> new CodegenParameter(spec, name);
+                case OPERATION -> new CodegenOperation(spec, name, readString());
+            };
+        }
+
+        private void readNodeBody(Object node) throws IOException {
+            switch (node) {
+                case CodegenGenericModel model -> {
+                    model.setDescription(readString());
+                    model.setXml(readXml());
+                    model.setAdditionalPropertiesFlag(readNullableBoolean());
+                    readProperties(model.getProperties());
+                }
+                case CodegenAllOfModel model -> {
+                    var refCount = readCount();
+                    for (int i = 0; i < refCount; i++) {
+                        model.addRefSuperModel(readString(), "");
+                    }
+                    var superModelCount = readCount();
+                    for (int i = 0; i < superModelCount; i++) {
+                        model.getInlineSuperModels().add(node(CodegenGenericModel.class));
+                    }
+                    model.getRequired().addAll(readStrings());
+                    model.setAdditionalPropertiesFlag(readNullableBoolean());
+                }
+                case CodegenOneOfModel model -> {
+                    model.getDiscriminator().setPropertyName(readString());
+                    var mappingCount = readCount();
+                    for (int i = 0; i < mappingCount; i++) {
+                        model.addMapping(readString(), new CodegenSchemaRef(spec, readString(), ""));
+                    }
+                    var oneOfCount = readCount();
+                    for (int i = 0; i < oneOfCount; i++) {
+                        model.addOneOf(readString(), "");
+                    }
+                }
+                case CodegenEnumModel model -> {
+                    model.setType(readString());
+                    model.getValues().addAll(readStrings());
+                    model.setDescription(readString());
+                }
+                case CodegenArrayModel model -> {
+                    readArray(model);
+                    model.setDescription(readString());
+                }
+                case CodegenAnonymousObjectModel object -> {
+                    object.setAdditionalPropertiesFlag(readNullableBoolean());
+                    readProperties(object.getProperties());
+                }
+                case CodegenProperty property -> {
+                    property.setSchema(readSchema());
+                    property.setDescription(readString());
+                    property.setExample(readString());
+                    property.setRequired(in.readBoolean());
+                    property.setReadOnly(in.readBoolean());
+                    property.setWriteOnly(in.readBoolean());
+                    property.setNullable(in.readBoolean());
+                    property.setMaxLength(readNullableInt());
+                    property.setXml(readXml());
+                }
+                case CodegenParameter parameter -> {
+                    parameter.setDescription(readString());
+                    parameter.setRequired(in.readBoolean());
+                    parameter.setSchema(readSchema());
+                    parameter.setIn(readEnum(CodegenParameter.ParameterLocation.class));
+                    parameter.setStyle(readEnum(CodegenParameter.Style.class));
+                    parameter.setExplode(in.readBoolean());
+                }
+                case CodegenOperation operation -> readOperation(operation);
+                default -> throw new IllegalStateException("Unexpected node " + node);
+            }
+        }
+
+        private void readOperation(CodegenOperation operation) throws IOException {
+            operation.setOperationId(readString());
+            operation.setSummary(readString());
+            operation.setDescription(readString());
+            operation.setDeprecated(in.readBoolean());
+            var securityCount = readCount();
+            for (int i = 0; i < securityCount; i++) {
+                var security = new CodegenSecurity(readString());
+                security.setScopes(readStrings());
+                operation.getSecurity().add(security);
+            }
+            var parameterCount = readCount();
+            for (int i = 0; i < parameterCount; i++) {
+                operation.getParameters().add(node(CodegenParameter.class));
+            }
+            readContents(operation.getRequestBodies());
+            var responseCount = readCount();
+            for (int i = 0; i < responseCount; i++) {
+                var response = new CodegenResponse(spec, readCount());
+                readContents(response.getResponseTypes());
+                operation.getResponses().add(response);
+            }
+            var inlineModelCount = readCount();
+            for (int i = 0; i < inlineModelCount; i++) {
+                operation.getInlineModels().add(node(CodegenModel.class));
+            }
+        }
+
+        private void readContents(Map<String, CodegenContent> contents) throws IOException {
+            var count = readCount();
+            for (int i = 0; i < count; i++) {
+                var key = readString();
+                var content = new CodegenContent(spec, readString());
+                content.setSchema(readSchema());
+                content.setRequired(in.readBoolean());
+                contents.put(key, content);
+            }
+        }
+
+        private void readProperties(Map<String, CodegenProperty> properties) throws IOException {
+            var count = readCount();
+            for (int i = 0; i < count; i++) {
+                properties.put(readString(), node(CodegenProperty.class));
+            }
+        }
+
+        private CodegenSchema readSchema() throws IOException {
+            var tag = in.readUnsignedByte();
+            return switch (tag) {
+                case NULL -> null;
+                case NODE -> node(CodegenSchema.class);
+                case REF -> new CodegenSchemaRef(spec, readString(), "");
+                case PRIMITIVE -> {
+                    var primitive = new CodegenPrimitiveSchema();
+                    primitive.setType(readString());
+                    primitive.setFormat(readString());
+                    yield primitive;
+                }
+                case ARRAY -> {
+                    var array = new CodegenArraySchema();
+                    readArray(array);
+                    yield array;
+                }
+                case RECORD -> {
+                    var record = new CodegenRecordSchema();
+                    record.setAdditionalProperties(readSchema());
+                    yield record;
+                }
+                case CONSTANT -> new CodegenConstantSchema(readString());
+                case EMBEDDED_ENUM -> {
+                    var embeddedEnum = new CodegenEmbeddedEnumSchema();
+                    embeddedEnum.setType(readString());
+                    embeddedEnum.getValues().addAll(readStrings());
+                    embeddedEnum.setDescription(readString());
+                    var declaredProperty = readCount();
+                    if (declaredProperty > 0) {
+                        embeddedEnum.setDeclaredProperty((CodegenProp) nodeAt(declaredProperty - 1));
+                    }
+                    yield embeddedEnum;
+                }
+                default -> throw new IOException("Invalid spec snapshot: unknown schema tag " + tag);
+            };
+        }
+
+        private void readArray(CodegenArraySchema array) throws IOException {
+            array.setUniqueItems(in.readBoolean());
+            array.setItems(readSchema());
+            array.setMinItems(readCount());
+            array.setMaxItems(readNullableInt());
+        }
+
+        private CodegenXml readXml() throws IOException {
+            if (!in.readBoolean()) {
+                return null;
+            }
+            var xml = new CodegenXml();
+            xml.setName(readString());
+            xml.setNamespace(readString());
+            xml.setPrefix(readString());
+            xml.setAttribute(in.readBoolean());
+            xml.setWrapped(in.readBoolean());
+            return xml;
+        }
+
+        private <T> T node(Class<T> type) throws IOException {
+            var node = nodeAt(readCount());
+            if (!type.isInstance(node)) {
+                throw new IOException("Invalid spec snapshot: expected " + type.getSimpleName() + ", was " + node);
+            }
+            return type.cast(node);
+        }
+
+        private Object nodeAt(int id) throws IOException {
+            if (id >= nodes.length || nodes[id] == null) {
+                throw new IOException("Invalid spec snapshot: unknown node " + id);
+            }
+            return nodes[id];
+        }
+
+        private List<String> readStrings() throws IOException {
+            var count = readCount();
+            var result = new ArrayList<String>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(readString());
+            }
+            return result;
+        }
+
+        private String readString() throws IOException {
+            var code = readCount();
+            if (code == 0) {
+                return null;
+            } else if (code > 1) {
+                if (code - 2 >= strings.size()) {
+                    throw new IOException("Invalid spec snapshot: unknown string " + (code - 2));
+                }
+                return strings.get(code - 2);
+            }
+            var bytes = new byte[readCount()];
+            in.readFully(bytes);
+            var value = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(value);
+            return value;
+        }
+
+        private Boolean readNullableBoolean() throws IOException {
+            return switch (in.readUnsignedByte()) {
+                case 0 -> null;
+                case 1 -> false;
+                default -> true;
+            };
+        }
+
+        private Integer readNullableInt() throws IOException {
+            return in.readBoolean() ? in.readInt() : null;
+        }
+
+        private <T extends Enum<T>> T readEnum(Class<T> type) throws IOException {
+            var code = readCount();
+            if (code == 0) {
+                return null;
+            }
+            var values = type.getEnumConstants();
+            if (code > values.length) {
+                throw new IOException("Invalid spec snapshot: unknown " + type.getSimpleName() + " " + (code - 1));
+            }
+            return values[code - 1];
+        }
+
+        private int readCount() throws IOException {
+            int result = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                var b = in.readUnsignedByte();
+                result |= (b & 0x7f) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IOException("Invalid spec snapshot: malformed number");
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package org.openapifactory.api.codegen;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -10,16 +16,29 @@ import java.util.TreeMap;
 public class CodegenApi {
     private String tag;
     private Map<String, CodegenOperation> operations = new TreeMap<>();
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude @ToString.Exclude
+    private List<CodegenOperation> sealedOperations;
 
     public CodegenApi(String tag) {
         this.tag = tag;
     }
 
+    /**
+     * @return the operations sorted by operationId
+     */
     public Collection<CodegenOperation> getOperations() {
-        return operations.values();
+        return sealedOperations != null ? sealedOperations : operations.values();
     }
 
     public void addOperation(CodegenOperation codegenOperation) {
+        if (sealedOperations != null) {
+            throw new IllegalStateException("Api " + tag + " is sealed");
+        }
         this.operations.put(codegenOperation.getOperationId(), codegenOperation);
     }
+
+    void seal() {
+        sealedOperations = List.copyOf(operations.values());
+    }
 }
@@ -3,6 +3,7 @@ package org.openapifactory.api.codegen;
 import lombok.Data;
 import lombok.ToString;
 import org.openapifactory.api.codegen.types.CodegenAnonymousObjectModel;
+import org.openapifactory.api.codegen.types.CodegenModel;
 import org.openapifactory.api.codegen.types.CodegenSchema;
 
 import java.util.ArrayList;
@@ -16,15 +17,21 @@ import static org.openapifactory.api.StringUtil.toUpperCamelCase;
 @ToString(of = {"method", "path", "operationId"})
 public class CodegenOperation {
     private final OpenapiSpec spec;
+    private final int id;
     private final String method, path;
     private String operationId;
     private String summary, description;
     private boolean deprecated;
     private final List<CodegenSecurity> security = new ArrayList<>();
     private final List<CodegenResponse> responses = new ArrayList<>();
+    /**
+     * The request and response models named after this operation, in the order they were added
+     */
+    private final List<CodegenModel> inlineModels = new ArrayList<>();
 
     public CodegenOperation(OpenapiSpec spec, String method, String path) {
         this.spec = spec;
+        this.id = spec.nextNodeId();
         this.method = method;
         this.path = path;
         this.operationId = defaultOperationId();
@@ -115,12 +122,14 @@ public class CodegenOperation {
     public CodegenSchema addRequestModel(CodegenAnonymousObjectModel object) {
         var namedModel = spec.addGenericModel(toUpperCamelCase(getOperationId()) + "Request");
         object.getProperties().forEach(namedModel.getProperties()::put);
+        inlineModels.add(namedModel);
         return namedModel;
     }
 
     public CodegenSchema addResponseModel(CodegenAnonymousObjectModel object, int responseCode) {
         var namedModel = spec.addGenericModel(toUpperCamelCase(getOperationId()) + responseCode + "Response");
         object.getProperties().forEach(namedModel.getProperties()::put);
+        inlineModels.add(namedModel);
         return namedModel;
     }
 
@@ -133,4 +142,14 @@ public class CodegenOperation {
     public boolean hasParams() {
         return !getParameters().isEmpty() || !requestBodies.isEmpty() || !security.isEmpty();
     }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
 }
@@ -8,6 +8,7 @@ import org.openapifactory.api.codegen.types.CodegenSchema;
 public class CodegenParameter implements CodegenProp {
     @ToString.Exclude
     private final OpenapiSpec spec;
+    private final int id;
 
     public enum ParameterLocation {
         cookie, header, path, query
@@ -23,4 +24,20 @@ public class CodegenParameter implements CodegenProp {
     private ParameterLocation in;
     private Style style;
     private boolean explode = true;
+
+    public CodegenParameter(OpenapiSpec spec, String name) {
+        this.spec = spec;
+        this.id = spec.nextNodeId();
+        this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
 }
@@ -3,6 +3,11 @@ package org.openapifactory.api.codegen;
 import org.openapifactory.api.codegen.types.CodegenSchema;
 
 public interface CodegenProp {
+    /**
+     * @return a number from {@link OpenapiSpec#nextNodeId()} that is unique within the spec
+     */
+    int getId();
+
     String getName();
 
     String getDescription();
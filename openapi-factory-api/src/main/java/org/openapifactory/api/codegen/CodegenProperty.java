@@ -1,15 +1,20 @@
 package org.openapifactory.api.codegen;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.ToString;
 import org.openapifactory.api.codegen.types.CodegenArrayModel;
+import org.openapifactory.api.codegen.types.CodegenObjectSchema;
 import org.openapifactory.api.codegen.types.CodegenSchema;
 
 @Data
 public class CodegenProperty implements CodegenProp, Cloneable {
     @ToString.Exclude
     private final OpenapiSpec spec;
+    @Setter(AccessLevel.NONE)
+    private int id;
     @ToString.Exclude
     private final CodegenObjectSchema model;
     private final String name;
@@ -22,6 +27,13 @@ public class CodegenProperty implements CodegenProp, Cloneable {
     @ToString.Exclude
     private CodegenXml xml;
 
+    public CodegenProperty(OpenapiSpec spec, CodegenObjectSchema model, String name) {
+        this.spec = spec;
+        this.id = spec.nextNodeId();
+        this.model = model;
+        this.name = name;
+    }
+
     @Override
     public String getDescription() {
         if (description != null) {
@@ -32,9 +44,24 @@ public class CodegenProperty implements CodegenProp, Cloneable {
         return null;
     }
 
+    /**
+     * @return a copy with its own id, as it can be changed independently of this property
+     */
     @SneakyThrows
     @Override
     public CodegenProperty clone() {
-        return (CodegenProperty) super.clone();
+        var result = (CodegenProperty) super.clone();
+        result.id = spec.nextNodeId();
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
     }
 }
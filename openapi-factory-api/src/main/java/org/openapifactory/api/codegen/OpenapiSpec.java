@@ -1,6 +1,10 @@
 package org.openapifactory.api.codegen;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 import org.openapifactory.api.codegen.types.CodegenAllOfModel;
 import org.openapifactory.api.codegen.types.CodegenArrayModel;
@@ -9,17 +13,22 @@ import org.openapifactory.api.codegen.types.CodegenGenericModel;
 import org.openapifactory.api.codegen.types.CodegenModel;
 import org.openapifactory.api.codegen.types.CodegenOneOfModel;
 import org.openapifactory.api.codegen.types.CodegenSchemaRef;
+import org.openapifactory.api.codegen.types.SchemaAnalysis;
 
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 @Data
@@ -33,24 +42,120 @@ public class OpenapiSpec {
     private final Map<String, CodegenApi> apiMap = new TreeMap<>();
     private final Map<String, CodegenModel> modelMap = new LinkedHashMap<>();
     private final List<CodegenSecurityScheme> securitySchemes = new ArrayList<>();
-    private final List<CodegenSchemaRef> schemaReferences = new ArrayList<>();
-    private final Map<CodegenSchemaRef, CodegenModel> resolvedSchemas = new LinkedHashMap<>();
+    private final SchemaReferenceRegistry schemaReferences = new SchemaReferenceRegistry();
+    private final List<URL> externalFiles = new ArrayList<>();
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final AtomicInteger nodeCount = new AtomicInteger();
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private volatile SchemaAnalysis schemaAnalysis;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private volatile SealedViews sealedViews;
+
+    /**
+     * The views of a sealed spec, computed once when the spec has been read
+     */
+    private record SealedViews(
+            List<CodegenApi> apis,
+            List<CodegenModel> models,
+            List<CodegenModel> modelsInDependencyOrder,
+            Map<Class<?>, Object> derivedViews
+    ) {
+    }
+
+    /**
+     * Computes the sorted views of the spec that generators use, so they are not recomputed on every call.
+     * After this, no more models, operations, servers or security schemes can be added.
+     */
+    public synchronized void seal() {
+        if (sealedViews != null) {
+            return;
+        }
+        apiMap.values().forEach(CodegenApi::seal);
+        schemaAnalysis = new SchemaAnalysis(modelMap.values());
+        sealedViews = new SealedViews(
+                List.copyOf(apiMap.values()),
+                computeModels(),
+                computeModelsInDependencyOrder(),
+                new ConcurrentHashMap<>()
+        );
+    }
+
+    /**
+     * @return the id of a new model, property, parameter or operation of this spec. Ids are numbered from 0,
+     * so generators and analysis passes can keep information about them in arrays instead of hash maps
+     */
+    public int nextNodeId() {
+        return nodeCount.getAndIncrement();
+    }
+
+    /**
+     * @return the number of ids given out so far, which is the size needed for an array indexed by id
+     */
+    public int getNodeCount() {
+        return nodeCount.get();
+    }
+
+    public boolean isSealed() {
+        return sealedViews != null;
+    }
+
+    /**
+     * @return a view of the spec created by the factory, which for a sealed spec is only created once per type
+     */
+    public <T> T getDerivedView(Class<T> type, Function<OpenapiSpec, T> factory) {
+        var views = sealedViews;
+        if (views == null) {
+            return factory.apply(this);
+        }
+        return type.cast(views.derivedViews().computeIfAbsent(type, t -> factory.apply(this)));
+    }
 
     public Collection<CodegenApi> getApis() {
-        return apiMap.values();
+        var views = sealedViews;
+        return views != null ? views.apis() : apiMap.values();
     }
+
+    /**
+     * @return the models sorted by name, without array models
+     */
     public Collection<CodegenModel> getModels() {
+        var views = sealedViews;
+        return views != null ? views.models() : computeModels();
+    }
+
+    private List<CodegenModel> computeModels() {
         return new TreeSet<>(modelMap.keySet())
                 .stream().map(modelMap::get)
                 .filter(m -> !(m instanceof CodegenArrayModel))
                 .toList();
     }
 
+    /**
+     * @return the models, each after the models it references, except for models that reference each other
+     */
+    public List<CodegenModel> getModelsInDependencyOrder() {
+        var views = sealedViews;
+        return views != null ? views.modelsInDependencyOrder() : computeModelsInDependencyOrder();
+    }
+
+    private List<CodegenModel> computeModelsInDependencyOrder() {
+        var models = Collections.newSetFromMap(new IdentityHashMap<CodegenModel, Boolean>());
+        models.addAll(modelMap.values());
+        return getSchemaAnalysis().getSchemaGraph().getModelsInDependencyOrder().stream()
+                .filter(models::contains)
+                .toList();
+    }
+
     public void addOperation(String tag, CodegenOperation codegenOperation) {
+        checkNotSealed();
         apiMap.computeIfAbsent(tag, CodegenApi::new).addOperation(codegenOperation);
     }
 
     public CodegenServer addServer() {
+        checkNotSealed();
         var server = new CodegenServer();
         servers.add(server);
         return server;
@@ -65,7 +170,7 @@ public class OpenapiSpec {
     }
 
     public CodegenEnumModel addEnumModel(String modelName) {
-        return addModel(new CodegenEnumModel(modelName));
+        return addModel(new CodegenEnumModel(this, modelName));
     }
 
     public CodegenOneOfModel addOneOfModel(String modelName) {
@@ -77,38 +182,80 @@ public class OpenapiSpec {
     }
 
     public CodegenArrayModel addArrayModel(String modelName) {
-        return addModel(new CodegenArrayModel(modelName));
+        return addModel(new CodegenArrayModel(this, modelName));
     }
 
     public CodegenSecurityScheme addSecurityScheme(String scheme) {
+        checkNotSealed();
         var securityScheme = new CodegenSecurityScheme(scheme);
         this.securitySchemes.add(securityScheme);
         return securityScheme;
     }
 
     public CodegenModel getModel(CodegenSchemaRef ref) {
-        if (resolvedSchemas.containsKey(ref)) {
-            return resolvedSchemas.get(ref);
+        var target = ref.getTarget();
+        if (target.isResolved()) {
+            return target.getModel();
         }
-        if (!modelMap.containsKey(ref.getClassName())) {
-            throw new IllegalArgumentException("Missing $ref " + ref.getClassName() + " in " + modelMap.keySet());
+        var model = modelMap.get(target.getClassName());
+        if (model == null) {
+            throw new IllegalArgumentException("Missing $ref " + target.getClassName() + " in " + modelMap.keySet());
         }
-        return modelMap.get(ref.getClassName());
+        if (target.isLocal()) {
+            target.resolve(model);
+        }
+        return model;
     }
 
-    private <T extends CodegenModel> T addModel(T model) {
-        modelMap.put(model.getName(), model);
-        return model;
+    /**
+     * @return the analysis of all models, computed once when the spec is sealed. Until then, the properties of the
+     * models may still change, so each call analyzes the models as they are
+     */
+    public SchemaAnalysis getSchemaAnalysis() {
+        var result = schemaAnalysis;
+        if (result == null) {
+            synchronized (this) {
+                return new SchemaAnalysis(List.copyOf(modelMap.values()));
+            }
+        }
+        return result;
     }
 
-    public void addReference(CodegenSchemaRef reference) {
-        this.schemaReferences.add(reference);
+    /**
+     * Adds the models again in the given order, so models that were added from several threads are in the
+     * same order, and replace models with the same name, as if added one by one. Like when added one by one,
+     * a model that replaces another keeps the position where its name was first added.
+     *
+     * @param previousModelCount the number of models before the given models were added, which keep their positions
+     */
+    public synchronized void reorderModels(int previousModelCount, List<? extends CodegenModel> models) {
+        checkNotSealed();
+        var added = new ArrayList<CodegenModel>();
+        var iterator = modelMap.values().iterator();
+        for (int i = 0; iterator.hasNext(); i++) {
+            var model = iterator.next();
+            if (i >= previousModelCount) {
+                added.add(model);
+                iterator.remove();
+            }
+        }
+        for (var model : models) {
+            modelMap.put(model.getName(), model);
+        }
+        for (var model : added) {
+            modelMap.putIfAbsent(model.getName(), model);
+        }
     }
 
-    public Set<CodegenSchemaRef> getUnresolvedSchemaReferences() {
-        var result = new HashSet<>(getSchemaReferences());
-        result.removeIf(r -> r.getRef().startsWith("#"));
-        result.removeAll(getResolvedSchemas().keySet());
-        return result;
+    private synchronized <T extends CodegenModel> T addModel(T model) {
+        checkNotSealed();
+        modelMap.put(model.getName(), model);
+        return model;
+    }
+
+    private void checkNotSealed() {
+        if (sealedViews != null) {
+            throw new IllegalStateException("Spec " + name + " is sealed");
+        }
     }
 }
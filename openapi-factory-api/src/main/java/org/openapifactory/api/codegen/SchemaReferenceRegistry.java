@@ -0,0 +1,143 @@
+package org.openapifactory.api.codegen;
+
+import org.openapifactory.api.codegen.types.CodegenModel;
+import org.openapifactory.api.codegen.types.InternedSchemaRef;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Keeps track of the $refs in a spec as they are created. Each distinct $ref is parsed once into an
+ * {@link InternedSchemaRef}, and references to other files are queued until they are resolved to
+ * the model they refer to. References can be added from several threads, by tasks run with {@link #track},
+ * and then queued with {@link #orderPending} as if the tasks had run one by one.
+ */
+public class SchemaReferenceRegistry {
+    private final Map<String, InternedSchemaRef> references = new HashMap<>();
+    private final Queue<InternedSchemaRef> pending = new ArrayDeque<>();
+    private final Map<String, CodegenModel> resolved = new LinkedHashMap<>();
+    private final Set<InternedSchemaRef> addedByTasks = new HashSet<>();
+    private final ThreadLocal<List<InternedSchemaRef>> usedByTask = new ThreadLocal<>();
+
+    /**
+     * The result of a task run with {@link #track}, with the references to other files it used, in the order it used them
+     */
+    public record Tracked<T>(T result, List<InternedSchemaRef> references) {
+    }
+
+    /**
+     * @return the shared entry for the $ref, which is parsed and registered the first time it's seen
+     */
+    public synchronized InternedSchemaRef intern(String ref) {
+        var reference = references.get(ref);
+        if (reference == null) {
+            reference = new InternedSchemaRef(ref);
+            references.put(ref, reference);
+            if (!reference.isLocal()) {
+                pending.add(reference);
+                if (usedByTask.get() != null) {
+                    addedByTasks.add(reference);
+                }
+            }
+        }
+        var used = usedByTask.get();
+        if (used != null && !reference.isLocal()) {
+            used.add(reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Runs a task that may run concurrently with other tasks, and records the references to other files it uses
+     */
+    public <T> Tracked<T> track(Supplier<T> task) {
+        var previous = usedByTask.get();
+        var used = new ArrayList<InternedSchemaRef>();
+        usedByTask.set(used);
+        try {
+            return new Tracked<>(task.get(), used);
+        } finally {
+            if (previous != null) {
+                usedByTask.set(previous);
+            } else {
+                usedByTask.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the references to other files that have been added since the last call and are not yet resolved,
+     * in the order they were added
+     */
+    public synchronized List<InternedSchemaRef> takePending() {
+        var result = new ArrayList<InternedSchemaRef>(pending.size());
+        InternedSchemaRef reference;
+        while ((reference = pending.poll()) != null) {
+            if (!reference.isResolved()) {
+                result.add(reference);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Queues the pending references that tasks added in the order the tasks used them, after the references
+     * that were pending before, so the order doesn't depend on which thread added them first
+     *
+     * @param tasks the tracked tasks, in the order they would have run one by one
+     */
+    public synchronized void orderPending(List<? extends Tracked<?>> tasks) {
+        var order = new HashMap<InternedSchemaRef, Integer>();
+        for (var task : tasks) {
+            for (var reference : task.references()) {
+                order.putIfAbsent(reference, order.size());
+            }
+        }
+        var sorted = new ArrayList<>(pending);
+        sorted.sort(Comparator.comparingInt(reference -> addedByTasks.contains(reference) ? order.getOrDefault(reference, order.size()) : -1));
+        addedByTasks.clear();
+        pending.clear();
+        pending.addAll(sorted);
+    }
+
+    public synchronized void resolve(InternedSchemaRef reference, CodegenModel model) {
+        resolved.putIfAbsent(reference.getRef(), model);
+        reference.resolve(model);
+    }
+
+    public synchronized int getReferenceCount() {
+        return references.size();
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * @return the number of references to other files that have been resolved
+     */
+    public synchronized int getResolvedCount() {
+        return resolved.size();
+    }
+
+    /**
+     * @return the models that references to other files were resolved to, by $ref, in the order they were resolved
+     */
+    public synchronized Map<String, CodegenModel> getResolvedSchemas() {
+        return new LinkedHashMap<>(resolved);
+    }
+
+    @Override
+    public String toString() {
+        return "SchemaReferenceRegistry{references=" + getReferenceCount() + ", pending=" + getPendingCount() + ", resolved=" + getResolvedCount() + "}";
+    }
+}
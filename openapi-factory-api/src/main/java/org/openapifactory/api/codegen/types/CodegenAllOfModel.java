@@ -4,7 +4,6 @@ import lombok.Data;
 import lombok.ToString;
 import org.openapifactory.api.parser.Maybe;
 import org.openapifactory.api.codegen.CodegenProperty;
-import org.openapifactory.api.codegen.CodegenObjectSchema;
 import org.openapifactory.api.codegen.OpenapiSpec;
 
 import java.util.ArrayList;
@@ -14,15 +13,22 @@ import java.util.List;
 import java.util.Set;
 
 @Data
-public class CodegenAllOfModel implements CodegenObjectSchema, CodegenModel {
+public final class CodegenAllOfModel implements CodegenObjectSchema, CodegenModel {
     @ToString.Exclude
     private final OpenapiSpec spec;
+    private final int id;
     private final String name;
     private final List<CodegenSchemaRef> refSuperModels = new ArrayList<>();
     private final List<CodegenGenericModel> inlineSuperModels = new ArrayList<>();
     private final Set<String> required = new LinkedHashSet<>();
     private Boolean additionalPropertiesFlag;
 
+    public CodegenAllOfModel(OpenapiSpec spec, String name) {
+        this.spec = spec;
+        this.id = spec.nextNodeId();
+        this.name = name;
+    }
+
     public void addRefSuperModel(String ref, String relativeFilename) {
         refSuperModels.add(new CodegenSchemaRef(spec, ref, relativeFilename));
     }
@@ -33,17 +39,12 @@ public class CodegenAllOfModel implements CodegenObjectSchema, CodegenModel {
         return result;
     }
 
+    /**
+     * @return the properties of the inline super models, after copies of the inherited properties that
+     * this model makes required
+     */
     public List<CodegenProperty> getOwnProperties() {
-        var result = new ArrayList<CodegenProperty>();
-        for (var name : required) {
-            if (inlineSuperModels.stream().noneMatch(m -> m.getProperty(name).isPresent())) {
-                var property = getProperty(name).required().clone();
-                property.setRequired(true);
-                result.add(property);
-            }
-        }
-        inlineSuperModels.forEach(m -> result.addAll(m.getAllProperties()));
-        return result;
+        return spec.getSchemaAnalysis().getProperties(this).ownProperties();
     }
 
     @Override
@@ -71,28 +72,32 @@ public class CodegenAllOfModel implements CodegenObjectSchema, CodegenModel {
 
     @Override
     public boolean hasReadOnlyProperties() {
-        return !getOmittedPropertiesForReadOnly().isEmpty();
+        return spec.getSchemaAnalysis().hasReadOnlyProperties(this);
     }
 
+    /**
+     * @return the properties of the referenced super models followed by the own properties
+     */
     @Override
     public Collection<CodegenProperty> getAllProperties() {
-        var result = new ArrayList<CodegenProperty>();
-        getRefSuperModels().stream()
-                .map(superModel -> (CodegenObjectSchema)superModel.getReferencedType())
-                .forEach(superModel -> result.addAll(superModel.getAllProperties()));
-        result.addAll(getOwnProperties());
-        return result;
+        return spec.getSchemaAnalysis().getProperties(this).allProperties();
     }
 
     public List<CodegenProperty> getReferencesWithReadOnlyProperties() {
-        return getAllProperties().stream()
-                .filter(p -> p.getSchema().hasReadOnlyProperties())
-                .toList();
+        return spec.getSchemaAnalysis().getProperties(this).referencesWithReadOnlyProperties();
     }
 
     public List<CodegenProperty> getOmittedPropertiesForReadOnly() {
-        return getAllProperties().stream()
-                .filter(p -> p.getSchema().hasReadOnlyProperties() || (p.isReadOnly() && p.isRequired()))
-                .toList();
+        return spec.getSchemaAnalysis().getProperties(this).omittedPropertiesForReadOnly();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
     }
 }
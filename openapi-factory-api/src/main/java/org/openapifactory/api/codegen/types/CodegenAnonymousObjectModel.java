@@ -5,7 +5,6 @@ import lombok.Data;
 import lombok.ToString;
 import org.openapifactory.api.parser.Maybe;
 import org.openapifactory.api.codegen.CodegenProperty;
-import org.openapifactory.api.codegen.CodegenObjectSchema;
 import org.openapifactory.api.codegen.OpenapiSpec;
 
 import java.util.Collection;
@@ -13,15 +12,21 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Data
-public class CodegenAnonymousObjectModel implements CodegenObjectSchema {
+public final class CodegenAnonymousObjectModel implements CodegenObjectSchema {
     @ToString.Exclude
     private final OpenapiSpec spec;
+    private final int id;
 
     @ToString.Exclude
     private final Map<String, CodegenProperty> properties = new LinkedHashMap<>();
 
     private Boolean additionalPropertiesFlag;
 
+    public CodegenAnonymousObjectModel(OpenapiSpec spec) {
+        this.spec = spec;
+        this.id = spec.nextNodeId();
+    }
+
     @Override
     public boolean hasNoRequiredProperties() {
         return properties.values().stream().anyMatch(CodegenProperty::isRequired);
@@ -42,4 +47,14 @@ public class CodegenAnonymousObjectModel implements CodegenObjectSchema {
     public Collection<CodegenProperty> getAllProperties() {
         return properties.values();
     }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
 }
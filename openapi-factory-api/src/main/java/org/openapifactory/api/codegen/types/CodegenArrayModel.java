@@ -1,11 +1,34 @@
 package org.openapifactory.api.codegen.types;
 
 import lombok.Data;
-import lombok.EqualsAndHashCode;
+import org.openapifactory.api.codegen.OpenapiSpec;
 
 @Data
-@EqualsAndHashCode(callSuper = true)
-public class CodegenArrayModel extends CodegenArraySchema implements CodegenModel {
+public final class CodegenArrayModel extends CodegenArraySchema implements CodegenModel {
+    private final int id;
     private final String name;
     private String description;
+
+    public CodegenArrayModel(OpenapiSpec spec, String name) {
+        this.id = spec.nextNodeId();
+        this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
+    /**
+     * Keeps {@link CodegenArraySchema#equals} from treating a model as equal to an inline schema with the same items
+     */
+    @Override
+    protected boolean canEqual(Object other) {
+        return other == this;
+    }
 }
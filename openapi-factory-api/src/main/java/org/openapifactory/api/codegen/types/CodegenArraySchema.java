@@ -3,7 +3,7 @@ package org.openapifactory.api.codegen.types;
 import lombok.Data;
 
 @Data
-public class CodegenArraySchema implements CodegenSchema {
+public sealed class CodegenArraySchema implements CodegenSchema permits CodegenArrayModel {
     private boolean uniqueItems;
     private CodegenSchema items;
     private int minItems = 0;
@@ -2,7 +2,7 @@ package org.openapifactory.api.codegen.types;
 
 import java.util.Collection;
 
-public interface CodegenEnum extends CodegenSchema {
+public sealed interface CodegenEnum extends CodegenSchema permits CodegenEmbeddedEnumSchema, CodegenEnumModel {
     String getType();
 
     Collection<String> getValues();
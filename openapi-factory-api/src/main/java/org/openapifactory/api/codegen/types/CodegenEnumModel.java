@@ -1,14 +1,31 @@
 package org.openapifactory.api.codegen.types;
 
 import lombok.Data;
+import org.openapifactory.api.codegen.OpenapiSpec;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Data
-public class CodegenEnumModel implements CodegenEnum, CodegenModel {
+public final class CodegenEnumModel implements CodegenEnum, CodegenModel {
+    private final int id;
     private final String name;
     private String type;
     private final List<String> values = new ArrayList<>();
     private String description;
+
+    public CodegenEnumModel(OpenapiSpec spec, String name) {
+        this.id = spec.nextNodeId();
+        this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
 }
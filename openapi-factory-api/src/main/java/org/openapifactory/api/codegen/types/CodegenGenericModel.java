@@ -1,27 +1,25 @@
 package org.openapifactory.api.codegen.types;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import org.openapifactory.api.codegen.CodegenXml;
 import org.openapifactory.api.parser.Maybe;
 import org.openapifactory.api.codegen.CodegenProperty;
-import org.openapifactory.api.codegen.CodegenObjectSchema;
 import org.openapifactory.api.codegen.OpenapiSpec;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-@RequiredArgsConstructor
 @ToString
-public class CodegenGenericModel implements CodegenObjectSchema, CodegenModel {
+public final class CodegenGenericModel implements CodegenObjectSchema, CodegenModel {
     @ToString.Exclude
     private final OpenapiSpec spec;
     @Getter
+    private final int id;
+    @Getter
     private final String name;
     @Getter @Setter
     private String description;
@@ -36,6 +34,12 @@ public class CodegenGenericModel implements CodegenObjectSchema, CodegenModel {
     @Getter
     private final Map<String, CodegenProperty> properties = new LinkedHashMap<>();
 
+    public CodegenGenericModel(OpenapiSpec spec, String name) {
+        this.spec = spec;
+        this.id = spec.nextNodeId();
+        this.name = name;
+    }
+
     @Override
     public CodegenProperty addProperty(String name) {
         var property = new CodegenProperty(spec, this, name);
@@ -55,7 +59,7 @@ public class CodegenGenericModel implements CodegenObjectSchema, CodegenModel {
 
     @Override
     public boolean hasReadOnlyProperties() {
-        return !getOmittedPropertiesForReadOnly().isEmpty();
+        return spec.getSchemaAnalysis().hasReadOnlyProperties(this);
     }
 
     public List<CodegenProperty> getReadOnlyProperties() {
@@ -65,20 +69,16 @@ public class CodegenGenericModel implements CodegenObjectSchema, CodegenModel {
     }
 
     public List<CodegenProperty> getReferencesWithReadOnlyProperties() {
-        return properties.values().stream()
-                .filter(p -> p.getSchema().hasReadOnlyProperties())
-                .toList();
+        return spec.getSchemaAnalysis().getProperties(this).referencesWithReadOnlyProperties();
     }
 
     public List<CodegenProperty> getOmittedPropertiesForReadOnly() {
-        var result = new ArrayList<>(getReadOnlyProperties());
-        result.addAll(getReferencesWithReadOnlyProperties());
-        return result;
+        return spec.getSchemaAnalysis().getProperties(this).omittedPropertiesForReadOnly();
     }
 
     @Override
     public boolean hasWriteOnlyProperties() {
-        return !getOmittedPropertiesForWriteOnly().isEmpty();
+        return spec.getSchemaAnalysis().hasWriteOnlyProperties(this);
     }
 
     public List<CodegenProperty> getWriteOnlyProperties() {
@@ -88,15 +88,21 @@ public class CodegenGenericModel implements CodegenObjectSchema, CodegenModel {
     }
 
     public List<CodegenProperty> getReferencesWithWriteOnlyProperties() {
-        return properties.values().stream()
-                .filter(p -> p.getSchema().hasWriteOnlyProperties())
-                .toList();
+        return spec.getSchemaAnalysis().getProperties(this).referencesWithWriteOnlyProperties();
     }
 
     public List<CodegenProperty> getOmittedPropertiesForWriteOnly() {
-        var result = new ArrayList<>(getWriteOnlyProperties());
-        result.addAll(getReferencesWithWriteOnlyProperties());
-        return result;
+        return spec.getSchemaAnalysis().getProperties(this).omittedPropertiesForWriteOnly();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
     }
 
 }
@@ -1,5 +1,12 @@
 package org.openapifactory.api.codegen.types;
 
-public interface CodegenModel extends CodegenSchema {
+public sealed interface CodegenModel extends CodegenSchema
+        permits CodegenAllOfModel, CodegenArrayModel, CodegenEnumModel, CodegenGenericModel, CodegenOneOfModel {
     String getName();
-}
\ No newline at end of file
+
+    /**
+     * @return a number from {@link org.openapifactory.api.codegen.OpenapiSpec#nextNodeId()} that is unique
+     * within the spec. Models are only equal to themselves, and use the id as hash code
+     */
+    int getId();
+}
@@ -1,11 +1,12 @@
-package org.openapifactory.api.codegen;
+package org.openapifactory.api.codegen.types;
 
+import org.openapifactory.api.codegen.CodegenProperty;
 import org.openapifactory.api.parser.Maybe;
-import org.openapifactory.api.codegen.types.CodegenSchema;
 
 import java.util.Collection;
 
-public interface CodegenObjectSchema extends CodegenSchema {
+public sealed interface CodegenObjectSchema extends CodegenSchema
+        permits CodegenAllOfModel, CodegenAnonymousObjectModel, CodegenGenericModel {
     Collection<CodegenProperty> getAllProperties();
     CodegenProperty addProperty(String name);
     Maybe<CodegenProperty> getProperty(String name);
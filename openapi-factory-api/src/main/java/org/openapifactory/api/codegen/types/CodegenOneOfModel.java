@@ -5,7 +5,6 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.openapifactory.api.codegen.CodegenProperty;
-import org.openapifactory.api.codegen.CodegenObjectSchema;
 import org.openapifactory.api.codegen.OpenapiSpec;
 
 import java.util.ArrayList;
@@ -15,12 +14,13 @@ import java.util.List;
 import java.util.Map;
 
 @Data
-public class CodegenOneOfModel implements CodegenModel {
+public final class CodegenOneOfModel implements CodegenModel {
 
     @ToString
     public static class Discriminator {
         @Getter @Setter
         private String propertyName;
+        @Getter
         private final Map<String, CodegenSchemaRef> mapping = new LinkedHashMap<>();
     }
 
@@ -32,10 +32,17 @@ public class CodegenOneOfModel implements CodegenModel {
 
     @ToString.Exclude
     private final OpenapiSpec spec;
+    private final int id;
     private final String name;
     private final Discriminator discriminator = new Discriminator();
     private final List<CodegenSchemaRef> oneOf = new ArrayList<>();
 
+    public CodegenOneOfModel(OpenapiSpec spec, String name) {
+        this.spec = spec;
+        this.id = spec.nextNodeId();
+        this.name = name;
+    }
+
     public void addOneOf(String $ref, String relativeFilename) {
         oneOf.add(new CodegenSchemaRef(spec, $ref, relativeFilename));
     }
@@ -77,8 +84,16 @@ public class CodegenOneOfModel implements CodegenModel {
 
     @Override
     public boolean hasReadOnlyProperties() {
-        return getModels().stream().anyMatch(CodegenSchema::hasReadOnlyProperties);
+        return spec.getSchemaAnalysis().hasReadOnlyProperties(this);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
 
+    @Override
+    public int hashCode() {
+        return id;
+    }
 }
@@ -3,6 +3,6 @@ package org.openapifactory.api.codegen.types;
 import lombok.Data;
 
 @Data
-public class CodegenRecordSchema implements CodegenSchema {
+public final class CodegenRecordSchema implements CodegenSchema {
     private CodegenSchema additionalProperties;
 }
@@ -1,6 +1,14 @@
 package org.openapifactory.api.codegen.types;
 
-public interface CodegenSchema {
+/**
+ * The types of schemas in a spec. The hierarchy is sealed, so generators can switch over a schema without
+ * a default case and the compiler will tell them about any kind of schema they don't handle.
+ * Note that {@link CodegenArrayModel} is both a {@link CodegenArraySchema} and a {@link CodegenModel},
+ * so the first of these cases in a switch will match it.
+ */
+public sealed interface CodegenSchema
+        permits CodegenArraySchema, CodegenConstantSchema, CodegenEnum, CodegenModel, CodegenObjectSchema,
+        CodegenPrimitiveSchema, CodegenRecordSchema, CodegenSchemaRef {
     default boolean hasNoRequiredProperties() {
         return true;
     }
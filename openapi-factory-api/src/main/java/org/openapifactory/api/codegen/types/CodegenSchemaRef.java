@@ -9,27 +9,26 @@ import java.util.regex.Pattern;
 
 @ToString
 @Getter
-@EqualsAndHashCode(of = {"ref"})
-public class CodegenSchemaRef implements CodegenSchema {
+@EqualsAndHashCode(of = {"target"})
+public final class CodegenSchemaRef implements CodegenSchema {
     public static final Pattern REF_PATTERN = Pattern.compile("#/components/schemas/(?<schema>.*)");
     @ToString.Exclude
     private final OpenapiSpec spec;
-    private final String ref;
+    @ToString.Exclude
+    private final InternedSchemaRef target;
 
     public CodegenSchemaRef(OpenapiSpec spec, String ref, String relativeFilename) {
         this.spec = spec;
-        this.ref = ref.startsWith("#") ? relativeFilename + ref : ref;
+        this.target = spec.getSchemaReferences().intern(ref.startsWith("#") ? relativeFilename + ref : ref);
+    }
 
-        var match = Pattern.compile("[-_.#/a-zA-Z0-9]+").matcher(ref);
-        if (!match.matches()) {
-            throw new IllegalArgumentException("Invalid format for $ref: " + ref);
-        }
-        spec.addReference(this);
+    @ToString.Include
+    public String getRef() {
+        return target.getRef();
     }
 
     public String getClassName() {
-        var lastSlash = ref.lastIndexOf("/");
-        return ref.substring(lastSlash + 1);
+        return target.getClassName();
     }
 
     @Override
@@ -0,0 +1,60 @@
+package org.openapifactory.api.codegen.types;
+
+import lombok.Getter;
+import org.openapifactory.api.codegen.OpenapiSpec;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A distinct $ref in a spec, parsed once and shared by all {@link CodegenSchemaRef}s to the same target.
+ * The referenced model is stored here when it's resolved, so following a reference doesn't need a lookup.
+ */
+@Getter
+public class InternedSchemaRef {
+    private static final Pattern VALID_REF = Pattern.compile("[-_.#/a-zA-Z0-9]+");
+
+    private final String ref;
+    /**
+     * The file for references to other files, null for references within the spec
+     */
+    private final String filename;
+    private final List<String> anchorPath;
+    private final String className;
+    private CodegenModel model;
+
+    public InternedSchemaRef(String ref) {
+        if (!VALID_REF.matcher(ref).matches()) {
+            throw new IllegalArgumentException("Invalid format for $ref: " + ref);
+        }
+        this.ref = ref;
+        this.className = ref.substring(ref.lastIndexOf('/') + 1);
+        var matcher = OpenapiSpec.EXTERNAL_REF.matcher(ref);
+        if (matcher.matches()) {
+            this.filename = matcher.group("filename");
+            this.anchorPath = Arrays.stream(matcher.group("anchor").split("/")).filter(s -> !s.isEmpty()).toList();
+        } else {
+            this.filename = null;
+            var hash = ref.indexOf('#');
+            this.anchorPath = Arrays.stream(ref.substring(hash + 1).split("/")).filter(s -> !s.isEmpty()).toList();
+        }
+    }
+
+    public boolean isLocal() {
+        return ref.startsWith("#");
+    }
+
+    public boolean isResolved() {
+        return model != null;
+    }
+
+    public void resolve(CodegenModel model) {
+        this.model = model;
+    }
+
+    @Override
+    public String toString() {
+        return ref;
+    }
+}
@@ -0,0 +1,226 @@
+package org.openapifactory.api.codegen.types;
+
+import org.openapifactory.api.codegen.CodegenProperty;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Which models have read-only and write-only properties, and the flattened properties of each model,
+ * computed once when the spec has been read instead of on every call from the generators.
+ * A model has read-only properties if it or any model it depends on has required read-only properties,
+ * which is found once for each component of the {@link SchemaGraph}, so recursive models are handled.
+ */
+public class SchemaAnalysis {
+
+    /**
+     * @param ownProperties for an allOf model, the properties of its inline super models and copies of the
+     *                      inherited properties it makes required. These are created once, so they keep their ids
+     */
+    public record ModelProperties(
+            List<CodegenProperty> allProperties,
+            List<CodegenProperty> ownProperties,
+            List<CodegenProperty> omittedPropertiesForReadOnly,
+            List<CodegenProperty> referencesWithReadOnlyProperties,
+            List<CodegenProperty> omittedPropertiesForWriteOnly,
+            List<CodegenProperty> referencesWithWriteOnlyProperties
+    ) {
+    }
+
+    private final Map<CodegenObjectSchema, List<CodegenProperty>> allProperties = new IdentityHashMap<>();
+    private final Map<CodegenAllOfModel, List<CodegenProperty>> ownProperties = new IdentityHashMap<>();
+    private final Set<CodegenObjectSchema> propertiesInProgress = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final SchemaGraph schemaGraph;
+    private final SchemaGraph writeOnlyGraph;
+    private final Set<CodegenModel> readOnly;
+    private final Set<CodegenModel> writeOnly;
+    private final Map<CodegenObjectSchema, ModelProperties> properties = new IdentityHashMap<>();
+    private final Map<CodegenModel, SchemaAnalysis> otherModels = new IdentityHashMap<>();
+
+    public SchemaAnalysis(Collection<? extends CodegenModel> models) {
+        var allModels = new ArrayList<CodegenModel>();
+        for (var model : models) {
+            allModels.add(model);
+            if (model instanceof CodegenAllOfModel allOf) {
+                allModels.addAll(allOf.getInlineSuperModels());
+            }
+        }
+        schemaGraph = new SchemaGraph(allModels, this::getDependencies);
+        readOnly = schemaGraph.findDependingOn(this::hasRequiredReadOnlyProperties);
+        // Only generic models consider write-only properties, so the other models don't pass them on
+        writeOnlyGraph = new SchemaGraph(allModels, model -> model instanceof CodegenGenericModel ? getDependencies(model) : List.of());
+        writeOnly = writeOnlyGraph.findDependingOn(model -> model instanceof CodegenGenericModel generic && hasRequired(generic, CodegenProperty::isWriteOnly));
+        for (var model : schemaGraph.getModelsInDependencyOrder()) {
+            if (model instanceof CodegenObjectSchema objectSchema) {
+                properties.put(objectSchema, computeProperties(model));
+            }
+        }
+    }
+
+    public SchemaGraph getSchemaGraph() {
+        return schemaGraph;
+    }
+
+    /**
+     * @return the analysis of a model. A model that was not part of this analysis, such as a model that was
+     * replaced by another model with the same name, is analyzed with the models it references the first time it's used
+     */
+    public ModelProperties getProperties(CodegenObjectSchema model) {
+        var result = properties.get(model);
+        return result != null ? result : analysisOf((CodegenModel) model).getProperties(model);
+    }
+
+    public boolean hasReadOnlyProperties(CodegenModel model) {
+        return schemaGraph.contains(model) ? readOnly.contains(model) : analysisOf(model).readOnly.contains(model);
+    }
+
+    public boolean hasWriteOnlyProperties(CodegenModel model) {
+        return writeOnlyGraph.contains(model) ? writeOnly.contains(model) : analysisOf(model).writeOnly.contains(model);
+    }
+
+    private SchemaAnalysis analysisOf(CodegenModel model) {
+        synchronized (otherModels) {
+            var result = otherModels.get(model);
+            if (result != null) {
+                return result;
+            }
+        }
+        // Analyzed outside the lock, as the models may be analyzed from several generator threads
+        var result = new SchemaAnalysis(List.of(model));
+        synchronized (otherModels) {
+            var existing = otherModels.putIfAbsent(model, result);
+            return existing != null ? existing : result;
+        }
+    }
+
+    private List<CodegenModel> getDependencies(CodegenModel model) {
+        var result = new ArrayList<CodegenModel>();
+        if (model instanceof CodegenAllOfModel allOf) {
+            for (var superModel : allOf.getRefSuperModels()) {
+                addReferencedModel(superModel, result);
+            }
+        }
+        if (model instanceof CodegenGenericModel || model instanceof CodegenAllOfModel) {
+            for (var property : getAllProperties((CodegenObjectSchema) model)) {
+                addReferencedModel(property.getSchema(), result);
+            }
+        } else if (model instanceof CodegenOneOfModel oneOf) {
+            for (var schema : oneOf.getModels()) {
+                addReferencedModel(schema, result);
+            }
+        }
+        return result;
+    }
+
+    private static void addReferencedModel(CodegenSchema schema, List<CodegenModel> result) {
+        if (schema instanceof CodegenSchemaRef ref) {
+            addReferencedModel(ref.getReferencedType(), result);
+        } else if (schema instanceof CodegenArraySchema array) {
+            addReferencedModel(array.getItems(), result);
+        } else if (schema instanceof CodegenModel model) {
+            result.add(model);
+        }
+    }
+
+    private List<CodegenProperty> getAllProperties(CodegenObjectSchema model) {
+        var result = allProperties.get(model);
+        if (result != null) {
+            return result;
+        }
+        if (!propertiesInProgress.add(model)) {
+            // A model can't inherit from itself
+            return List.of();
+        }
+        if (model instanceof CodegenAllOfModel allOf) {
+            var all = new ArrayList<CodegenProperty>();
+            for (var superModel : allOf.getRefSuperModels()) {
+                all.addAll(getAllProperties((CodegenObjectSchema) superModel.getReferencedType()));
+            }
+            all.addAll(getOwnProperties(allOf));
+            result = List.copyOf(all);
+        } else {
+            result = List.copyOf(model.getAllProperties());
+        }
+        propertiesInProgress.remove(model);
+        allProperties.put(model, result);
+        return result;
+    }
+
+    private List<CodegenProperty> getOwnProperties(CodegenAllOfModel allOf) {
+        var result = ownProperties.get(allOf);
+        if (result != null) {
+            return result;
+        }
+        var own = new ArrayList<CodegenProperty>();
+        for (var name : allOf.getRequired()) {
+            if (allOf.getInlineSuperModels().stream().noneMatch(m -> m.getProperty(name).isPresent())) {
+                var property = allOf.getProperty(name).required().clone();
+                property.setRequired(true);
+                own.add(property);
+            }
+        }
+        allOf.getInlineSuperModels().forEach(m -> own.addAll(m.getAllProperties()));
+        result = List.copyOf(own);
+        ownProperties.put(allOf, result);
+        return result;
+    }
+
+    private boolean hasRequiredReadOnlyProperties(CodegenModel model) {
+        return (model instanceof CodegenGenericModel || model instanceof CodegenAllOfModel)
+               && hasRequired((CodegenObjectSchema) model, CodegenProperty::isReadOnly);
+    }
+
+    private boolean hasRequired(CodegenObjectSchema model, Predicate<CodegenProperty> predicate) {
+        return getAllProperties(model).stream().anyMatch(p -> p.isRequired() && predicate.test(p));
+    }
+
+    private boolean isReadOnly(CodegenSchema schema) {
+        var models = new ArrayList<CodegenModel>();
+        addReferencedModel(schema, models);
+        return models.isEmpty() ? schema.hasReadOnlyProperties() : readOnly.contains(models.get(0));
+    }
+
+    private boolean isWriteOnly(CodegenSchema schema) {
+        var models = new ArrayList<CodegenModel>();
+        addReferencedModel(schema, models);
+        return models.isEmpty() ? schema.hasWriteOnlyProperties() : writeOnly.contains(models.get(0));
+    }
+
+    private ModelProperties computeProperties(CodegenModel model) {
+        var all = getAllProperties((CodegenObjectSchema) model);
+        var referencesWithReadOnly = filter(all, p -> isReadOnly(p.getSchema()));
+        var referencesWithWriteOnly = filter(all, p -> isWriteOnly(p.getSchema()));
+        if (model instanceof CodegenAllOfModel allOf) {
+            return new ModelProperties(
+                    all,
+                    getOwnProperties(allOf),
+                    filter(all, p -> isReadOnly(p.getSchema()) || (p.isReadOnly() && p.isRequired())),
+                    referencesWithReadOnly,
+                    List.of(),
+                    List.of()
+            );
+        }
+        var omittedForReadOnly = new ArrayList<>(filter(all, p -> p.isReadOnly() && p.isRequired()));
+        omittedForReadOnly.addAll(referencesWithReadOnly);
+        var omittedForWriteOnly = new ArrayList<>(filter(all, p -> p.isWriteOnly() && p.isRequired()));
+        omittedForWriteOnly.addAll(referencesWithWriteOnly);
+        return new ModelProperties(
+                all,
+                all,
+                List.copyOf(omittedForReadOnly),
+                referencesWithReadOnly,
+                List.copyOf(omittedForWriteOnly),
+                referencesWithWriteOnly
+        );
+    }
+
+    private static List<CodegenProperty> filter(List<CodegenProperty> properties, Predicate<CodegenProperty> predicate) {
+        return properties.stream().filter(predicate).toList();
+    }
+}
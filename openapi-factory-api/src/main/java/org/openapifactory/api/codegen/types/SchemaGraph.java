@@ -0,0 +1,207 @@
+package org.openapifactory.api.codegen.types;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The models of a spec and the models each of them depends on, grouped into strongly connected components:
+ * models that depend on each other, directly or through other models, are in the same component.
+ * The components are ordered so that a component comes after all the components it depends on, which lets
+ * questions about everything a model depends on be answered once per component, even for recursive models.
+ * <p>
+ * The models must belong to the same spec, as the graph keeps what it knows about each model in arrays
+ * indexed by {@link CodegenModel#getId()}.
+ */
+public class SchemaGraph {
+
+    private final Map<CodegenModel, List<CodegenModel>> dependencies = new IdentityHashMap<>();
+    private final List<List<CodegenModel>> components = new ArrayList<>();
+    /**
+     * The component of each model by id, or -1 for models that are not in the graph
+     */
+    private int[] componentIndex = new int[0];
+
+    public SchemaGraph(Collection<? extends CodegenModel> models, Function<CodegenModel, Collection<? extends CodegenModel>> dependencies) {
+        var tarjan = new Tarjan(dependencies);
+        for (var model : models) {
+            if (!tarjan.isVisited(model)) {
+                tarjan.visit(model);
+            }
+        }
+    }
+
+    /**
+     * @return the components, each after the components it depends on
+     */
+    public List<List<CodegenModel>> getComponents() {
+        return Collections.unmodifiableList(components);
+    }
+
+    /**
+     * @return all models in the graph, each after the models it depends on, except within recursive components
+     */
+    public List<CodegenModel> getModelsInDependencyOrder() {
+        return components.stream().flatMap(List::stream).toList();
+    }
+
+    public boolean contains(CodegenModel model) {
+        return componentOf(model) >= 0;
+    }
+
+    public List<CodegenModel> getDependencies(CodegenModel model) {
+        return dependencies.getOrDefault(model, List.of());
+    }
+
+    /**
+     * @return true if the model depends on itself, directly or through other models
+     */
+    public boolean isRecursive(CodegenModel model) {
+        var component = componentOf(model);
+        return component >= 0 && (components.get(component).size() > 1 || getDependencies(model).contains(model));
+    }
+
+    /**
+     * @return the models where the predicate holds for the model or any model it depends on, computed
+     * once per component
+     */
+    public Set<CodegenModel> findDependingOn(Predicate<CodegenModel> predicate) {
+        var result = Collections.newSetFromMap(new IdentityHashMap<CodegenModel, Boolean>());
+        var matchingComponents = new boolean[components.size()];
+        for (int i = 0; i < components.size(); i++) {
+            var component = components.get(i);
+            for (var model : component) {
+                if (predicate.test(model) || dependsOnMatch(model, i, matchingComponents)) {
+                    matchingComponents[i] = true;
+                    break;
+                }
+            }
+            if (matchingComponents[i]) {
+                result.addAll(component);
+            }
+        }
+        return result;
+    }
+
+    private boolean dependsOnMatch(CodegenModel model, int component, boolean[] matchingComponents) {
+        for (var dependency : getDependencies(model)) {
+            var dependencyComponent = componentOf(dependency);
+            if (dependencyComponent != component && matchingComponents[dependencyComponent]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int componentOf(CodegenModel model) {
+        return model.getId() < componentIndex.length ? componentIndex[model.getId()] : -1;
+    }
+
+    /**
+     * @return the array, extended with the fill value if it's too short to hold the id
+     */
+    private static int[] ensureCapacity(int[] array, int id, int fill) {
+        if (id < array.length) {
+            return array;
+        }
+        var oldLength = array.length;
+        var result = Arrays.copyOf(array, Math.max(id + 1, oldLength * 2));
+        Arrays.fill(result, oldLength, result.length, fill);
+        return result;
+    }
+
+    /**
+     * Tarjan's algorithm with an explicit stack, so long chains of models don't overflow the call stack.
+     * Components are completed after all the components they depend on.
+     */
+    private class Tarjan {
+        private final Function<CodegenModel, Collection<? extends CodegenModel>> dependencyFunction;
+        /**
+         * The visiting order, lowest reachable visiting order and whether on the stack of each model by id,
+         * where a visiting order of -1 means not yet visited
+         */
+        private int[] index = new int[0];
+        private int[] lowLink = new int[0];
+        private boolean[] onStack = new boolean[0];
+        private int visited = 0;
+        private final ArrayDeque<CodegenModel> stack = new ArrayDeque<>();
+
+        private record Frame(CodegenModel model, Iterator<CodegenModel> dependencies) {
+        }
+
+        private Tarjan(Function<CodegenModel, Collection<? extends CodegenModel>> dependencyFunction) {
+            this.dependencyFunction = dependencyFunction;
+        }
+
+        private boolean isVisited(CodegenModel model) {
+            return model.getId() < index.length && index[model.getId()] >= 0;
+        }
+
+        private void visit(CodegenModel root) {
+            var frames = new ArrayDeque<Frame>();
+            frames.push(start(root));
+            while (!frames.isEmpty()) {
+                var frame = frames.peek();
+                var model = frame.model();
+                var id = model.getId();
+                if (frame.dependencies().hasNext()) {
+                    var dependency = frame.dependencies().next();
+                    if (!isVisited(dependency)) {
+                        frames.push(start(dependency));
+                    } else if (onStack[dependency.getId()]) {
+                        lowLink[id] = Math.min(lowLink[id], index[dependency.getId()]);
+                    }
+                } else {
+                    frames.pop();
+                    if (lowLink[id] == index[id]) {
+                        completeComponent(model);
+                    }
+                    if (!frames.isEmpty()) {
+                        var parent = frames.peek().model().getId();
+                        lowLink[parent] = Math.min(lowLink[parent], lowLink[id]);
+                    }
+                }
+            }
+        }
+
+        private Frame start(CodegenModel model) {
+            var id = model.getId();
+            index = ensureCapacity(index, id, -1);
+            lowLink = ensureCapacity(lowLink, id, -1);
+            if (onStack.length < index.length) {
+                onStack = Arrays.copyOf(onStack, index.length);
+            }
+            index[id] = visited;
+            lowLink[id] = visited;
+            visited++;
+            stack.push(model);
+            onStack[id] = true;
+            var modelDependencies = List.<CodegenModel>copyOf(dependencyFunction.apply(model));
+            dependencies.put(model, modelDependencies);
+            return new Frame(model, modelDependencies.iterator());
+        }
+
+        private void completeComponent(CodegenModel root) {
+            var component = new ArrayList<CodegenModel>();
+            CodegenModel member;
+            do {
+                member = stack.pop();
+                onStack[member.getId()] = false;
+                component.add(member);
+                componentIndex = ensureCapacity(componentIndex, member.getId(), -1);
+                componentIndex[member.getId()] = components.size();
+            } while (member != root);
+            Collections.reverse(component);
+            components.add(component);
+        }
+    }
+}
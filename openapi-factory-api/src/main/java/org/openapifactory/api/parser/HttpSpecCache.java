@@ -0,0 +1,175 @@
+package org.openapifactory.api.parser;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Properties;
+
+/**
+ * Keeps copies of remote spec files, such as the targets of <code>.link</code> files, in a directory.
+ * A cached copy is revalidated with the ETag and Last-Modified headers of the response it came from,
+ * and it's used if the server can't be reached or fails. In offline mode only cached copies are used.
+ * Local files are read directly.
+ */
+public class HttpSpecCache implements SpecSource {
+
+    private static final System.Logger logger = System.getLogger(HttpSpecCache.class.getName());
+
+    private final Path directory;
+    private final boolean offline;
+    private HttpClient client;
+
+    public HttpSpecCache(Path directory) {
+        this(directory, false);
+    }
+
+    /**
+     * @param offline if true, remote files are only read from the cache, and never from the network
+     */
+    public HttpSpecCache(Path directory, boolean offline) {
+        this.directory = directory;
+        this.offline = offline;
+    }
+
+    @Override
+    public ByteBuffer read(URL url) throws IOException {
+        if (!url.getProtocol().equals("http") && !url.getProtocol().equals("https")) {
+            return SpecFileReader.readBytes(url);
+        }
+        var entry = new CacheEntry(url);
+        if (offline) {
+            if (!entry.exists()) {
+                throw new IOException("No cached copy of " + url + " in offline mode");
+            }
+            return entry.readContent();
+        }
+        try {
+            return fetch(url, entry);
+        } catch (IOException e) {
+            if (entry.exists()) {
+                logger.log(System.Logger.Level.WARNING, "Using cached copy of {0}, which may be stale: {1}", url, e.getMessage());
+                return entry.readContent();
+            }
+            throw e;
+        }
+    }
+
+    private ByteBuffer fetch(URL url, CacheEntry entry) throws IOException {
+        var request = HttpRequest.newBuilder(toUri(url)).timeout(SpecFileReader.READ_TIMEOUT).GET();
+        if (entry.exists()) {
+            var metadata = entry.readMetadata();
+            if (metadata.getProperty("etag") != null) {
+                request.header("If-None-Match", metadata.getProperty("etag"));
+            }
+            if (metadata.getProperty("lastModified") != null) {
+                request.header("If-Modified-Since", metadata.getProperty("lastModified"));
+            }
+        }
+        HttpResponse<byte[]> response;
+        try {
+            response = getClient().send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while fetching " + url);
+        } catch (IOException e) {
+            throw new IOException("Failed to fetch " + url + ": " + e, e);
+        }
+        if (response.statusCode() == 304 && entry.exists()) {
+            return entry.readContent();
+        } else if (response.statusCode() != 200) {
+            throw new IOException("Unexpected response " + response.statusCode() + " from " + url);
+        }
+        var metadata = new Properties();
+        metadata.setProperty("url", url.toString());
+        response.headers().firstValue("ETag").ifPresent(etag -> metadata.setProperty("etag", etag));
+        response.headers().firstValue("Last-Modified").ifPresent(lastModified -> metadata.setProperty("lastModified", lastModified));
+        entry.write(response.body(), metadata);
+        return ByteBuffer.wrap(response.body());
+    }
+
+    private synchronized HttpClient getClient() {
+        if (client == null) {
+            client = HttpClient.newBuilder()
+                    .connectTimeout(SpecFileReader.CONNECT_TIMEOUT)
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build();
+        }
+        return client;
+    }
+
+    private static URI toUri(URL url) throws IOException {
+        try {
+            return url.toURI();
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid URL " + url, e);
+        }
+    }
+
+    /**
+     * The content and the response headers of a remote file, named by a digest of the URL
+     */
+    private class CacheEntry {
+        private final Path contentFile;
+        private final Path metadataFile;
+
+        private CacheEntry(URL url) {
+            var name = digest(url.toString());
+            contentFile = directory.resolve(name + ".content");
+            metadataFile = directory.resolve(name + ".properties");
+        }
+
+        private boolean exists() {
+            return Files.isRegularFile(contentFile) && Files.isRegularFile(metadataFile);
+        }
+
+        private ByteBuffer readContent() throws IOException {
+            return ByteBuffer.wrap(Files.readAllBytes(contentFile));
+        }
+
+        private Properties readMetadata() throws IOException {
+            var result = new Properties();
+            try (var reader = Files.newBufferedReader(metadataFile, StandardCharsets.UTF_8)) {
+                result.load(reader);
+            }
+            return result;
+        }
+
+        /**
+         * Writes to temporary files first, so concurrent readers never see a partial copy.
+         * The metadata is written last, as an entry only exists when both files do.
+         */
+        private void write(byte[] content, Properties metadata) throws IOException {
+            Files.createDirectories(directory);
+            var tempContent = Files.createTempFile(directory, contentFile.getFileName().toString(), ".tmp");
+            Files.write(tempContent, content);
+            Files.move(tempContent, contentFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            var tempMetadata = Files.createTempFile(directory, metadataFile.getFileName().toString(), ".tmp");
+            try (var writer = Files.newBufferedWriter(tempMetadata, StandardCharsets.UTF_8)) {
+                metadata.store(writer, null);
+            }
+            Files.move(tempMetadata, metadataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    private static String digest(String value) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
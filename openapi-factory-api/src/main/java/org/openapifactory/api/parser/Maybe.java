@@ -4,12 +4,21 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 public interface Maybe<T> {
     static <T> Maybe<T> missing(String errorMessage) {
         return new Missing<>(errorMessage);
     }
 
+    /**
+     * A missing value where the error message is only built if {@link #required()} is called.
+     * Use this for optional lookups where building the message is expensive.
+     */
+    static <T> Maybe<T> missing(Supplier<String> errorMessage) {
+        return new Missing<>(errorMessage);
+    }
+
     static <T> Maybe<T> present(T o) {
         return new Present<T>(o);
     }
@@ -40,15 +49,19 @@ public interface Maybe<T> {
 
 
     class Missing<T> implements Maybe<T> {
-        private final String errorMessage;
+        private final Supplier<String> errorMessage;
 
         public Missing(String errorMessage) {
+            this(() -> errorMessage);
+        }
+
+        public Missing(Supplier<String> errorMessage) {
             this.errorMessage = errorMessage;
         }
 
         @Override
         public T required() {
-            throw new RuntimeException(errorMessage);
+            throw new RuntimeException(errorMessage.get());
         }
 
         @Override
@@ -149,7 +162,7 @@ public interface Maybe<T> {
 
         @Override
         public Maybe<T> filter(Predicate<T> predicate, Function<T, String > errorMessage) {
-            return predicate.test(o) ? this : missing(errorMessage.apply(o));
+            return predicate.test(o) ? this : missing(() -> errorMessage.apply(o));
         }
 
         @Override
@@ -0,0 +1,57 @@
+package org.openapifactory.api.parser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Parsed spec files, shared between specs that are parsed in the same run. Each call to
+ * {@link #read} returns a new node over the shared document, so specs can be parsed
+ * concurrently without sharing the tracking of used keys.
+ */
+public class SpecFileCache {
+    private final ConcurrentMap<String, SpecMappingNode> files = new ConcurrentHashMap<>();
+    private final SpecSource source;
+
+    public SpecFileCache() {
+        this(SpecSource.direct());
+    }
+
+    /**
+     * @param source where the files are read from, for example an {@link HttpSpecCache}
+     */
+    public SpecFileCache(SpecSource source) {
+        this.source = source;
+    }
+
+    public SpecSource getSource() {
+        return source;
+    }
+
+    public SpecMappingNode read(URL url, String relativeFilename) throws IOException {
+        try {
+            return files.computeIfAbsent(url.toString(), key -> {
+                try {
+                    return SpecMappingNode.read(url, relativeFilename, source);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).withRelativeFilename(relativeFilename);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Discards the parsed file, so it is read again the next time it's referenced
+     */
+    public void invalidate(URL url) {
+        files.remove(url.toString());
+    }
+
+    public int size() {
+        return files.size();
+    }
+}
@@ -0,0 +1,90 @@
+package org.openapifactory.api.parser;
+
+import org.openapifactory.api.parser.json.JsonMappingNode;
+import org.openapifactory.api.parser.yaml.YamlMappingNode;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Reads spec files as UTF-8, regardless of the platform default charset. When read directly, local files
+ * are read from the file system and remote files are read with a timeout. Files without a
+ * <code>.yaml</code>, <code>.yml</code>, <code>.json</code> or <code>.link</code> suffix are read as
+ * JSON if the content starts with <code>{</code>, and as YAML otherwise.
+ */
+class SpecFileReader {
+
+    enum Format {
+        YAML, JSON, LINK
+    }
+
+    static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    static final Duration READ_TIMEOUT = Duration.ofSeconds(30);
+
+    static SpecMappingNode read(URL url, String relativeFile, SpecSource source) throws IOException {
+        var content = decode(source.read(url), url);
+        return switch (detectFormat(url.getPath(), content)) {
+            case YAML -> YamlMappingNode.read(reader(content), relativeFile, url);
+            case JSON -> JsonMappingNode.read(reader(content), relativeFile, url);
+            case LINK -> read(URI.create(content.toString().trim()).toURL(), relativeFile, source);
+        };
+    }
+
+    static Format detectFormat(String filename, CharSequence content) {
+        if (filename.endsWith(".yaml") || filename.endsWith(".yml")) {
+            return Format.YAML;
+        } else if (filename.endsWith(".json")) {
+            return Format.JSON;
+        } else if (filename.endsWith(".link")) {
+            return Format.LINK;
+        }
+        for (int i = 0; i < content.length(); i++) {
+            if (!Character.isWhitespace(content.charAt(i))) {
+                return content.charAt(i) == '{' ? Format.JSON : Format.YAML;
+            }
+        }
+        return Format.YAML;
+    }
+
+    static ByteBuffer readBytes(URL url) throws IOException {
+        if (url.getProtocol().equals("file")) {
+            try {
+                return ByteBuffer.wrap(Files.readAllBytes(Path.of(url.toURI())));
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid file url " + url, e);
+            }
+        }
+        var connection = url.openConnection();
+        connection.setConnectTimeout((int) CONNECT_TIMEOUT.toMillis());
+        connection.setReadTimeout((int) READ_TIMEOUT.toMillis());
+        try (var input = connection.getInputStream()) {
+            return ByteBuffer.wrap(input.readAllBytes());
+        }
+    }
+
+    static CharBuffer decode(ByteBuffer bytes, URL url) throws IOException {
+        try {
+            var result = StandardCharsets.UTF_8.newDecoder().decode(bytes);
+            if (result.hasRemaining() && result.charAt(0) == '\uFEFF') {
+                result.position(result.position() + 1);
+            }
+            return result;
+        } catch (CharacterCodingException e) {
+            throw new IOException("Spec file is not valid UTF-8: " + url, e);
+        }
+    }
+
+    private static CharArrayReader reader(CharBuffer content) {
+        return new CharArrayReader(content.array(), content.arrayOffset() + content.position(), content.remaining());
+    }
+}
@@ -1,34 +1,30 @@
 package org.openapifactory.api.parser;
 
-import org.openapifactory.api.parser.json.JsonMappingNode;
-import org.openapifactory.api.parser.yaml.YamlMappingNode;
-
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.net.URL;
 import java.util.Set;
 
 public interface SpecMappingNode {
 
+    /**
+     * Reads a YAML or JSON spec, or the spec at the URL in a <code>.link</code> file, as UTF-8
+     */
     static SpecMappingNode read(URL url, String relativeFile) throws IOException {
-        var filename = url.getFile();
-        var connection = url.openConnection();
-        try (var reader = new BufferedReader(new InputStreamReader(connection.getInputStream()))) {
-            if (filename.endsWith(".yaml")) {
-                return YamlMappingNode.read(reader, relativeFile, url);
-            } else if (filename.endsWith(".json")) {
-                return JsonMappingNode.read(reader, relativeFile);
-            } else if (filename.endsWith(".link")) {
-                return read(new URL(reader.readLine().trim()), relativeFile);
-            } else {
-                throw new RuntimeException("Unsupported file format " + url);
-            }
-        }
+        return read(url, relativeFile, SpecSource.direct());
+    }
+
+    static SpecMappingNode read(URL url, String relativeFile, SpecSource source) throws IOException {
+        return SpecFileReader.read(url, relativeFile, source);
     }
 
     String getRelativeFilename();
 
+    /**
+     * Returns a new node for the same document, as referenced by a different relative filename,
+     * and with its own tracking of used keys
+     */
+    SpecMappingNode withRelativeFilename(String relativeFilename);
+
     Maybe<SpecMappingNode> mappingNode(String key);
 
     Maybe<SpecSequenceNode> sequenceNode(String key);
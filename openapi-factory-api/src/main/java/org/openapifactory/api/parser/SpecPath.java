@@ -0,0 +1,39 @@
+package org.openapifactory.api.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The path of a node from the document root. Child paths share the segments of their parent,
+ * so navigating into a node doesn't copy the path.
+ */
+public record SpecPath(SpecPath parent, String segment) {
+    public static final SpecPath ROOT = new SpecPath(null, null);
+
+    public SpecPath append(String segment) {
+        return new SpecPath(this, segment);
+    }
+
+    public SpecPath append(int index) {
+        return append(String.valueOf(index));
+    }
+
+    public List<String> segments() {
+        var result = new ArrayList<String>();
+        for (var p = this; p.parent != null; p = p.parent) {
+            result.add(p.segment);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    public String join(String delimiter) {
+        return String.join(delimiter, segments());
+    }
+
+    @Override
+    public String toString() {
+        return segments().toString();
+    }
+}
@@ -0,0 +1,18 @@
+package org.openapifactory.api.parser;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+
+/**
+ * Where the content of spec files is read from. {@link #direct()} reads local files from the file system
+ * and remote files from the network on every call, while {@link HttpSpecCache} keeps copies of remote files.
+ */
+public interface SpecSource {
+
+    ByteBuffer read(URL url) throws IOException;
+
+    static SpecSource direct() {
+        return SpecFileReader::readBytes;
+    }
+}
@@ -0,0 +1,296 @@
+package org.openapifactory.api.parser.json;
+
+import jakarta.json.Json;
+import jakarta.json.stream.JsonParser;
+
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * A JSON document read in a single pass into a table of nodes. The children of each object or array
+ * are stored as a contiguous range, and the keys of an object are also kept in sorted order, so
+ * keys are found by binary search instead of through a map per object. Nodes are identified by their
+ * index in the table and know their line and column. The document is immutable once read and can be
+ * shared between threads.
+ */
+final class JsonDocument {
+    static final byte OBJECT = 0;
+    static final byte ARRAY = 1;
+    static final byte STRING = 2;
+    static final byte NUMBER = 3;
+    static final byte TRUE = 4;
+    static final byte FALSE = 5;
+    static final byte NULL = 6;
+
+    private byte[] types = new byte[64];
+    private String[] values = new String[64];
+    private int[] lines = new int[64];
+    private int[] columns = new int[64];
+    private int[] firstChild = new int[64];
+    private int[] childCount = new int[64];
+    private int nodeCount = 0;
+
+    private int[] children = new int[64];
+    private String[] keys = new String[64];
+    private int[] sortedPositions = new int[64];
+    private int childTotal = 0;
+
+    private JsonDocument() {
+    }
+
+    /**
+     * @return a document where the root object is node 0
+     */
+    static JsonDocument read(Reader reader) {
+        var document = new JsonDocument();
+        try (var parser = Json.createParser(reader)) {
+            if (!parser.hasNext() || parser.next() != JsonParser.Event.START_OBJECT) {
+                throw new RuntimeException("Expected JSON object at " + parser.getLocation());
+            }
+            var stack = new ArrayDeque<Container>();
+            stack.push(new Container(document.addNode(OBJECT, null, parser), true));
+            while (!stack.isEmpty()) {
+                var container = stack.peek();
+                switch (parser.next()) {
+                    case KEY_NAME -> container.key = parser.getString();
+                    case START_OBJECT -> stack.push(new Container(container.add(document.addNode(OBJECT, null, parser)), true));
+                    case START_ARRAY -> stack.push(new Container(container.add(document.addNode(ARRAY, null, parser)), false));
+                    case END_OBJECT, END_ARRAY -> document.close(stack.pop());
+                    case VALUE_STRING -> container.add(document.addNode(STRING, parser.getString(), parser));
+                    // Formatted the same way as the JsonNumber created by a JsonReader
+                    case VALUE_NUMBER -> container.add(document.addNode(NUMBER, parser.getValue().toString(), parser));
+                    case VALUE_TRUE -> container.add(document.addNode(TRUE, null, parser));
+                    case VALUE_FALSE -> container.add(document.addNode(FALSE, null, parser));
+                    case VALUE_NULL -> container.add(document.addNode(NULL, null, parser));
+                }
+            }
+        }
+        return document;
+    }
+
+    /**
+     * Collects the children of an object or array while it's being read
+     */
+    private static class Container {
+        private final int node;
+        private final boolean isObject;
+        private final List<String> keys = new ArrayList<>();
+        private int[] children = new int[8];
+        private int count = 0;
+        private String key;
+
+        private Container(int node, boolean isObject) {
+            this.node = node;
+            this.isObject = isObject;
+        }
+
+        private int add(int child) {
+            if (count == children.length) {
+                children = Arrays.copyOf(children, count * 2);
+            }
+            children[count++] = child;
+            if (isObject) {
+                keys.add(key);
+            }
+            return child;
+        }
+    }
+
+    private int addNode(byte type, String value, JsonParser parser) {
+        if (nodeCount == types.length) {
+            var capacity = nodeCount * 2;
+            types = Arrays.copyOf(types, capacity);
+            values = Arrays.copyOf(values, capacity);
+            lines = Arrays.copyOf(lines, capacity);
+            columns = Arrays.copyOf(columns, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            childCount = Arrays.copyOf(childCount, capacity);
+        }
+        // The parser is positioned after the token: the opening bracket of objects and arrays, and the end of values
+        var location = parser.getLocation();
+        types[nodeCount] = type;
+        values[nodeCount] = value;
+        lines[nodeCount] = (int) location.getLineNumber();
+        columns[nodeCount] = (int) location.getColumnNumber() - (type == OBJECT || type == ARRAY ? 1 : 0);
+        return nodeCount++;
+    }
+
+    private void close(Container container) {
+        var count = container.count;
+        var childKeys = container.isObject ? container.keys : null;
+        var childNodes = container.children;
+        Integer[] order = null;
+        if (container.isObject) {
+            order = sortedOrder(childKeys, count);
+            if (hasDuplicates(childKeys, order)) {
+                // Like a JsonObject: the key keeps its first position and gets the last value
+                var firstPosition = new HashMap<String, Integer>();
+                var dedupedKeys = new ArrayList<String>();
+                var dedupedNodes = new int[count];
+                for (int i = 0; i < count; i++) {
+                    var existing = firstPosition.putIfAbsent(childKeys.get(i), dedupedKeys.size());
+                    if (existing == null) {
+                        dedupedNodes[dedupedKeys.size()] = childNodes[i];
+                        dedupedKeys.add(childKeys.get(i));
+                    } else {
+                        dedupedNodes[existing] = childNodes[i];
+                    }
+                }
+                childKeys = dedupedKeys;
+                childNodes = dedupedNodes;
+                count = dedupedKeys.size();
+                order = sortedOrder(childKeys, count);
+            }
+        }
+
+        if (childTotal + count > children.length) {
+            var capacity = Math.max(children.length * 2, childTotal + count);
+            children = Arrays.copyOf(children, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            sortedPositions = Arrays.copyOf(sortedPositions, capacity);
+        }
+        System.arraycopy(childNodes, 0, children, childTotal, count);
+        for (int i = 0; i < count; i++) {
+            keys[childTotal + i] = childKeys != null ? childKeys.get(i) : null;
+            sortedPositions[childTotal + i] = order != null ? order[i] : i;
+        }
+        firstChild[container.node] = childTotal;
+        childCount[container.node] = count;
+        childTotal += count;
+    }
+
+    private static Integer[] sortedOrder(List<String> keys, int count) {
+        var order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(keys::get));
+        return order;
+    }
+
+    private static boolean hasDuplicates(List<String> keys, Integer[] order) {
+        for (int i = 1; i < order.length; i++) {
+            if (keys.get(order[i]).equals(keys.get(order[i - 1]))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    byte type(int node) {
+        return types[node];
+    }
+
+    String value(int node) {
+        return values[node];
+    }
+
+    int line(int node) {
+        return lines[node];
+    }
+
+    int column(int node) {
+        return columns[node];
+    }
+
+    int childCount(int node) {
+        return childCount[node];
+    }
+
+    int child(int node, int position) {
+        return children[firstChild[node] + position];
+    }
+
+    String key(int node, int position) {
+        return keys[firstChild[node] + position];
+    }
+
+    /**
+     * @return the position of the key among the children of the object, or -1 if the object doesn't have the key
+     */
+    int position(int node, String key) {
+        var first = firstChild[node];
+        int low = 0, high = childCount[node] - 1;
+        while (low <= high) {
+            var mid = (low + high) >>> 1;
+            var position = sortedPositions[first + mid];
+            var comparison = keys[first + position].compareTo(key);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the node as JSON text, for error messages
+     */
+    String toJson(int node) {
+        var result = new StringBuilder();
+        appendJson(node, result);
+        return result.toString();
+    }
+
+    private void appendJson(int node, StringBuilder result) {
+        switch (types[node]) {
+            case OBJECT -> {
+                result.append('{');
+                for (int i = 0; i < childCount[node]; i++) {
+                    if (i > 0) {
+                        result.append(',');
+                    }
+                    appendString(key(node, i), result);
+                    result.append(':');
+                    appendJson(child(node, i), result);
+                }
+                result.append('}');
+            }
+            case ARRAY -> {
+                result.append('[');
+                for (int i = 0; i < childCount[node]; i++) {
+                    if (i > 0) {
+                        result.append(',');
+                    }
+                    appendJson(child(node, i), result);
+                }
+                result.append(']');
+            }
+            case STRING -> appendString(values[node], result);
+            case NUMBER -> result.append(values[node]);
+            case TRUE -> result.append("true");
+            case FALSE -> result.append("false");
+            default -> result.append("null");
+        }
+    }
+
+    private static void appendString(String s, StringBuilder result) {
+        result.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            var c = s.charAt(i);
+            switch (c) {
+                case '"' -> result.append("\\\"");
+                case '\\' -> result.append("\\\\");
+                case '\n' -> result.append("\\n");
+                case '\r' -> result.append("\\r");
+                case '\t' -> result.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        result.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        result.append(c);
+                    }
+                }
+            }
+        }
+        result.append('"');
+    }
+}
@@ -1,37 +1,47 @@
 package org.openapifactory.api.parser.json;
 
-import jakarta.json.Json;
-import jakarta.json.JsonNumber;
-import jakarta.json.JsonObject;
-import jakarta.json.JsonString;
-import jakarta.json.JsonValue;
 import org.openapifactory.api.parser.Maybe;
 import org.openapifactory.api.parser.SpecMappingNode;
+import org.openapifactory.api.parser.SpecPath;
 import org.openapifactory.api.parser.SpecSequenceNode;
 
 import java.io.Reader;
-import java.util.ArrayList;
+import java.net.URL;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashSet;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
+import static org.openapifactory.api.parser.json.JsonDocument.ARRAY;
+import static org.openapifactory.api.parser.json.JsonDocument.FALSE;
+import static org.openapifactory.api.parser.json.JsonDocument.NUMBER;
+import static org.openapifactory.api.parser.json.JsonDocument.OBJECT;
+import static org.openapifactory.api.parser.json.JsonDocument.STRING;
+import static org.openapifactory.api.parser.json.JsonDocument.TRUE;
+
+/**
+ * An object in a {@link JsonDocument}. Used keys are tracked by their position in the object.
+ */
 public class JsonMappingNode implements SpecMappingNode {
 
-    private final List<String> path;
-    private final JsonObject node;
+    private final JsonDocument document;
+    private final int node;
+    private final SpecPath path;
     private final String relativeFilename;
-    private final Set<String> unusedKeys = new HashSet<>();
+    private final URL url;
+    private final BitSet usedKeys = new BitSet();
 
-    public JsonMappingNode(List<String> path, JsonObject node, String relativeFilename) {
-        this.path = path;
+    JsonMappingNode(JsonDocument document, int node, SpecPath path, String relativeFilename, URL url) {
+        this.document = document;
         this.node = node;
+        this.path = path;
         this.relativeFilename = relativeFilename;
-        unusedKeys.addAll(node.keySet());
+        this.url = url;
     }
 
-    public static SpecMappingNode read(Reader reader, String relativeFile) {
-        return new JsonMappingNode(List.of(), Json.createReader(reader).readObject(), relativeFile);
+    public static SpecMappingNode read(Reader reader, String relativeFile, URL url) {
+        return new JsonMappingNode(JsonDocument.read(reader), 0, SpecPath.ROOT, relativeFile, url);
     }
 
     @Override
@@ -39,47 +49,60 @@ public class JsonMappingNode implements SpecMappingNode {
         return relativeFilename;
     }
 
+    @Override
+    public SpecMappingNode withRelativeFilename(String relativeFilename) {
+        return new JsonMappingNode(document, node, path, relativeFilename, url);
+    }
+
     @Override
     public Maybe<SpecMappingNode> mappingNode(String key) {
-        return get(key).filter(
-                n -> n instanceof JsonObject,
-                n -> "Expected JsonObject at " + path + " " + key + ": " + n
-        ).map(n -> new JsonMappingNode(appendToPath(key), (JsonObject) n, relativeFilename));
+        var child = get(key);
+        if (child < 0) {
+            return missingKey(key);
+        } else if (document.type(child) != OBJECT) {
+            return Maybe.missing(() -> "Expected JsonObject at " + path + " " + key + ": " + document.toJson(child) + " " + getFilePath(child));
+        }
+        return Maybe.present(new JsonMappingNode(document, child, path.append(key), relativeFilename, url));
     }
 
-    private Maybe<JsonValue> get(String key) {
-        unusedKeys.remove(key);
-        return containsKey(key) ? Maybe.present(node.get(key)) : missingKey(key);
+    private int get(String key) {
+        var position = document.position(node, key);
+        if (position < 0) {
+            return -1;
+        }
+        usedKeys.set(position);
+        return document.child(node, position);
     }
 
     @Override
     public Maybe<SpecSequenceNode> sequenceNode(String key) {
-        if (!containsKey(key)) {
+        var child = get(key);
+        if (child < 0) {
             return missingKey(key);
+        } else if (document.type(child) != ARRAY) {
+            throw new RuntimeException("Expected JsonArray at " + path + " " + key + ": " + document.toJson(child) + " " + getFilePath(child));
         }
-        unusedKeys.remove(key);
-        return Maybe.present(new JsonSequenceNode(appendToPath(key), node.getJsonArray(key), relativeFilename));
+        return Maybe.present(new JsonSequenceNode(document, child, path.append(key), relativeFilename, url));
     }
 
     @Override
     public Maybe<String> string(String key) {
-        if (!containsKey(key)) {
+        var child = get(key);
+        if (child < 0) {
             return missingKey(key);
         }
-        return Maybe.present(getString(key));
-    }
-
-    private String getString(String key) {
-        var v = node.get(key);
-        unusedKeys.remove(key);
-        if (v instanceof JsonString string) {
-            return string.getString();
-        } else if (v instanceof JsonNumber number) {
-            return number.toString();
-        } else if (v == JsonValue.TRUE || v == JsonValue.FALSE) {
-            return v.toString();
-        }
-        throw new RuntimeException("Expected key [" + key + "] at " + path + " value " + v + " to be String");
+        return Maybe.present(getString(key, child));
+    }
+
+    private String getString(String key, int child) {
+        return switch (document.type(child)) {
+            case STRING, NUMBER -> document.value(child);
+            case TRUE -> "true";
+            case FALSE -> "false";
+            default -> throw new RuntimeException(
+                    "Expected key [" + key + "] at " + path + " value " + document.toJson(child) + " to be String " + getFilePath(child)
+            );
+        };
     }
 
     @Override
@@ -89,18 +112,33 @@ public class JsonMappingNode implements SpecMappingNode {
 
     @Override
     public Set<String> keySet() {
-        return node.keySet();
+        var result = new LinkedHashSet<String>();
+        for (int i = 0; i < document.childCount(node); i++) {
+            result.add(document.key(node, i));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return document.position(node, key) >= 0;
     }
 
     @Override
     public boolean isObject(String key) {
-        return containsKey(key) && node.get(key) instanceof JsonObject;
+        var position = document.position(node, key);
+        return position >= 0 && document.type(document.child(node, position)) == OBJECT;
     }
 
     @Override
     public void checkUnused() {
-        if (!unusedKeys.isEmpty()) {
-            throw new RuntimeException("Unused keys " + unusedKeys + " in " + getPath());
+        if (usedKeys.cardinality() < document.childCount(node)) {
+            var unusedKeys = new HashSet<String>();
+            unusedKeys.addAll(keySet());
+            for (int i = usedKeys.nextSetBit(0); i >= 0; i = usedKeys.nextSetBit(i + 1)) {
+                unusedKeys.remove(document.key(node, i));
+            }
+            throw new RuntimeException("Unused keys " + unusedKeys + " in " + getPath() + " " + getFilePath(node));
         }
     }
 
@@ -115,16 +153,19 @@ public class JsonMappingNode implements SpecMappingNode {
     }
 
     private <T> Maybe<T> missingKey(String key) {
-        return Maybe.missing("required " + key + " in " + getPath());
+        return Maybe.missing(() -> "required " + key + " in " + getPath() + " " + getFilePath(node));
     }
 
-    private List<String> appendToPath(String key) {
-        var result = new ArrayList<>(path);
-        result.add(key);
-        return result;
+    private String getFilePath(int node) {
+        return url + ":" + document.line(node) + ":" + document.column(node);
     }
 
     private String getPath() {
-        return relativeFilename + "#/" + String.join("/", path);
+        return relativeFilename + "#/" + path.join("/");
+    }
+
+    @Override
+    public String toString() {
+        return "JsonMappingNode{path=" + path + ", keys=" + keySet() + '}';
     }
 }
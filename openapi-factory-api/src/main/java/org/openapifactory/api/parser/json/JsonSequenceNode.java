@@ -1,56 +1,69 @@
 package org.openapifactory.api.parser.json;
 
-import jakarta.json.JsonArray;
-import jakarta.json.JsonNumber;
-import jakarta.json.JsonString;
-import jakarta.json.JsonValue;
 import org.openapifactory.api.parser.SpecMappingNode;
+import org.openapifactory.api.parser.SpecPath;
 import org.openapifactory.api.parser.SpecSequenceNode;
 
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.IllegalFormatException;
 import java.util.List;
 
+import static org.openapifactory.api.parser.json.JsonDocument.FALSE;
+import static org.openapifactory.api.parser.json.JsonDocument.NUMBER;
+import static org.openapifactory.api.parser.json.JsonDocument.OBJECT;
+import static org.openapifactory.api.parser.json.JsonDocument.STRING;
+import static org.openapifactory.api.parser.json.JsonDocument.TRUE;
+
 public class JsonSequenceNode implements SpecSequenceNode {
-    private final List<String> path;
-    private final JsonArray node;
+    private final JsonDocument document;
+    private final int node;
+    private final SpecPath path;
     private final String relativeFile;
+    private final URL url;
 
-    public JsonSequenceNode(List<String> path, JsonArray node, String relativeFile) {
-        this.path = path;
+    JsonSequenceNode(JsonDocument document, int node, SpecPath path, String relativeFile, URL url) {
+        this.document = document;
         this.node = node;
+        this.path = path;
         this.relativeFile = relativeFile;
+        this.url = url;
     }
 
     @Override
     public Iterable<SpecMappingNode> mappingNodes() throws IllegalFormatException {
         var result = new ArrayList<SpecMappingNode>();
-        for (int i = 0; i < node.size(); i++) {
-            result.add(new JsonMappingNode(appendToPath(i), node.getJsonObject(i), relativeFile));
+        for (int i = 0; i < document.childCount(node); i++) {
+            var child = document.child(node, i);
+            if (document.type(child) != OBJECT) {
+                throw new RuntimeException("Expected JsonObject at " + path.append(i) + " value " + document.toJson(child) + " " + getFilePath(child));
+            }
+            result.add(new JsonMappingNode(document, child, path.append(i), relativeFile, url));
         }
         return result;
     }
 
     @Override
     public List<String> stringList() throws IllegalFormatException {
-        return node.stream().map(this::asString).toList();
-    }
-
-    private String asString(JsonValue v) {
-        if (v instanceof JsonString string) {
-            return string.getString();
-        } else if (v instanceof JsonNumber number) {
-            return number.toString();
-        } else if (v == JsonValue.TRUE || v == JsonValue.FALSE) {
-            return v.toString();
+        var result = new ArrayList<String>();
+        for (int i = 0; i < document.childCount(node); i++) {
+            result.add(asString(document.child(node, i)));
         }
-        throw new RuntimeException("Expected at " + path + " value " + v + " to be String");
+        return result;
     }
 
+    private String asString(int child) {
+        return switch (document.type(child)) {
+            case STRING, NUMBER -> document.value(child);
+            case TRUE -> "true";
+            case FALSE -> "false";
+            default -> throw new RuntimeException(
+                    "Expected at " + path + " value " + document.toJson(child) + " to be String " + getFilePath(child)
+            );
+        };
+    }
 
-    private List<String> appendToPath(int index) {
-        var result = new ArrayList<>(path);
-        result.add(String.valueOf(index));
-        return result;
+    private String getFilePath(int node) {
+        return url + ":" + document.line(node) + ":" + document.column(node);
     }
 }
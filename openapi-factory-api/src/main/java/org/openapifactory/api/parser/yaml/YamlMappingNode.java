@@ -2,6 +2,7 @@ package org.openapifactory.api.parser.yaml;
 
 import org.openapifactory.api.parser.Maybe;
 import org.openapifactory.api.parser.SpecMappingNode;
+import org.openapifactory.api.parser.SpecPath;
 import org.openapifactory.api.parser.SpecSequenceNode;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.composer.Composer;
@@ -14,23 +15,27 @@ import org.yaml.snakeyaml.resolver.Resolver;
 
 import java.io.Reader;
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * A mapping in a YAML document. The index of keys is only built when the node is accessed,
+ * and used keys are tracked by their position in the mapping.
+ */
 public class YamlMappingNode implements SpecMappingNode {
-    private final List<String> path;
+    private final SpecPath path;
     private final MappingNode mappingNode;
-    private final Map<String, Node> nodeMap = new LinkedHashMap<>();
-    private final Set<String> unusedKeys = new HashSet<>();
+    private Map<String, Integer> keyIndex;
+    private final BitSet usedKeys = new BitSet();
     private final String relativeFilename;
     private final URL url;
 
-    public YamlMappingNode(List<String> path, Node mappingNode, String relativeFilename, URL url) {
+    YamlMappingNode(SpecPath path, Node mappingNode, String relativeFilename, URL url) {
         this.path = path;
         this.relativeFilename = relativeFilename;
         this.url = url;
@@ -40,18 +45,17 @@ public class YamlMappingNode implements SpecMappingNode {
             );
         }
         this.mappingNode = (MappingNode) mappingNode;
-
-        for (var nodeTuple : this.mappingNode.getValue()) {
-            var keyNode = (ScalarNode) nodeTuple.getKeyNode();
-            nodeMap.put(keyNode.getValue(), nodeTuple.getValueNode());
-            unusedKeys.addAll(nodeMap.keySet());
-        }
     }
 
+    /**
+     * Specs with thousands of schemas are larger than SnakeYAML's default limit of 3 MB.
+     * The limit on aliases still applies
+     */
     public static SpecMappingNode read(Reader reader, String relativeFilename, URL url) {
-        var composer =
-                new Composer(new ParserImpl(new StreamReader(reader), new LoaderOptions()), new Resolver(), new LoaderOptions());
-        return new YamlMappingNode(List.of(), composer.getSingleNode(), relativeFilename, url);
+        var options = new LoaderOptions();
+        options.setCodePointLimit(Integer.MAX_VALUE);
+        var composer = new Composer(new ParserImpl(new StreamReader(reader), options), new Resolver(), options);
+        return new YamlMappingNode(SpecPath.ROOT, composer.getSingleNode(), relativeFilename, url);
     }
 
     @Override
@@ -59,12 +63,17 @@ public class YamlMappingNode implements SpecMappingNode {
         return relativeFilename;
     }
 
+    @Override
+    public SpecMappingNode withRelativeFilename(String relativeFilename) {
+        return new YamlMappingNode(path, mappingNode, relativeFilename, url);
+    }
+
     @Override
     public Maybe<SpecMappingNode> mappingNode(String key) {
         if (!containsKey(key)) {
             return missingKey(key);
         }
-        return Maybe.present(new YamlMappingNode(append(path, key), getNode(key), relativeFilename, url));
+        return Maybe.present(new YamlMappingNode(path.append(key), getNode(key), relativeFilename, url));
     }
 
     @Override
@@ -72,7 +81,7 @@ public class YamlMappingNode implements SpecMappingNode {
         if (!containsKey(key)) {
             return missingKey(key);
         }
-        return Maybe.present(new YamlSequenceNode(append(path, key), getNode(key), relativeFilename, url));
+        return Maybe.present(new YamlSequenceNode(path.append(key), getNode(key), relativeFilename, url));
     }
 
     @Override
@@ -114,7 +123,12 @@ public class YamlMappingNode implements SpecMappingNode {
 
     @Override
     public Set<String> keySet() {
-        return nodeMap.keySet();
+        return Collections.unmodifiableSet(getKeyIndex().keySet());
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return getKeyIndex().containsKey(key);
     }
 
     @Override
@@ -124,24 +138,45 @@ public class YamlMappingNode implements SpecMappingNode {
 
     @Override
     public void checkUnused() {
-        if (!unusedKeys.isEmpty()) {
+        var keyIndex = getKeyIndex();
+        if (usedKeys.cardinality() < keyIndex.size()) {
+            // Filled key by key like the set of keys was before, so the keys are reported in the same order
+            var unusedKeys = new HashSet<String>();
+            unusedKeys.addAll(keyIndex.keySet());
+            keyIndex.forEach((key, index) -> {
+                if (usedKeys.get(index)) {
+                    unusedKeys.remove(key);
+                }
+            });
             throw new RuntimeException("Unused keys " + unusedKeys + " in " + getPath() + " " + getFilePath(mappingNode));
         }
     }
 
     private <T> Maybe<T> missingKey(String key) {
-        return Maybe.missing("missing required key [" + key + "] (keys: " + keySet() + ") at " +  getPath() + " " + getFilePath(mappingNode));
+        return Maybe.missing(() -> "missing required key [" + key + "] (keys: " + keySet() + ") at " +  getPath() + " " + getFilePath(mappingNode));
     }
 
     private Node getNode(String key) {
-        unusedKeys.remove(key);
-        return nodeMap.get(key);
-    }
-
-    private static List<String> append(List<String> path, String key) {
-        var result = new ArrayList<>(path);
-        result.add(key);
-        return result;
+        var index = getKeyIndex().get(key);
+        if (index == null) {
+            return null;
+        }
+        usedKeys.set(index);
+        return mappingNode.getValue().get(index).getValueNode();
+    }
+
+    /**
+     * Maps each key to the position of its last occurrence in the mapping, in the order the keys first occur
+     */
+    private Map<String, Integer> getKeyIndex() {
+        if (keyIndex == null) {
+            var tuples = mappingNode.getValue();
+            keyIndex = new LinkedHashMap<>(tuples.size() * 4 / 3 + 1);
+            for (int i = 0; i < tuples.size(); i++) {
+                keyIndex.put(((ScalarNode) tuples.get(i).getKeyNode()).getValue(), i);
+            }
+        }
+        return keyIndex;
     }
 
     private String getFilePath(Node node) {
@@ -149,11 +184,11 @@ public class YamlMappingNode implements SpecMappingNode {
     }
 
     private String getPath() {
-        return relativeFilename + "#/" + String.join("/", path);
+        return relativeFilename + "#/" + path.join("/");
     }
 
     @Override
     public String toString() {
-        return "YamlMappingNode{path=" + path + ", nodeMap=" + nodeMap.keySet() + '}';
+        return "YamlMappingNode{path=" + path + ", nodeMap=" + keySet() + '}';
     }
 }
@@ -1,6 +1,7 @@
 package org.openapifactory.api.parser.yaml;
 
 import org.openapifactory.api.parser.SpecMappingNode;
+import org.openapifactory.api.parser.SpecPath;
 import org.openapifactory.api.parser.SpecSequenceNode;
 import org.yaml.snakeyaml.nodes.MappingNode;
 import org.yaml.snakeyaml.nodes.Node;
@@ -12,12 +13,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class YamlSequenceNode implements SpecSequenceNode {
-    private final List<String> path;
+    private final SpecPath path;
     private final SequenceNode node;
     private final String relativeFilename;
     private final URL url;
 
-    public YamlSequenceNode(List<String> path, Node node, String relativeFilename, URL url) {
+    YamlSequenceNode(SpecPath path, Node node, String relativeFilename, URL url) {
         this.path = path;
         this.relativeFilename = relativeFilename;
         this.url = url;
@@ -34,7 +35,7 @@ public class YamlSequenceNode implements SpecSequenceNode {
         var result = new ArrayList<SpecMappingNode>();
         var value = node.getValue();
         for (int i = 0; i < value.size(); i++) {
-            result.add(new YamlMappingNode(append(path, i), value.get(i), relativeFilename, url));
+            result.add(new YamlMappingNode(path.append(i), value.get(i), relativeFilename, url));
         }
         return result;
     }
@@ -55,10 +56,4 @@ public class YamlSequenceNode implements SpecSequenceNode {
         }
         return result;
     }
-
-    private static List<String> append(List<String> path, int index) {
-        var result = new ArrayList<>(path);
-        result.add(String.valueOf(index));
-        return result;
-    }
 }
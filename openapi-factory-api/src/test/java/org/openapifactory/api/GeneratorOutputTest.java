@@ -0,0 +1,82 @@
+package org.openapifactory.api;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeneratorOutputTest {
+
+    private final Path outputRoot = Path.of("target/generatorOutputTest");
+
+    @BeforeEach
+    void cleanOutput() throws IOException {
+        if (Files.isDirectory(outputRoot)) {
+            try (var walk = Files.walk(outputRoot)) {
+                walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    void shouldOnlyWriteChangedFiles() throws IOException {
+        var first = new GeneratorOutput(outputRoot);
+        first.writeString("test/unchanged.ts", "export const a = 1;\n");
+        first.writeString("changed.ts", "export const b = 1;\n");
+        var unchangedFile = outputRoot.resolve("test/unchanged.ts");
+        var lastModified = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+        Files.setLastModifiedTime(unchangedFile, lastModified);
+
+        var second = new GeneratorOutput(outputRoot);
+        second.writeString("test/unchanged.ts", "export const a = 1;\n");
+        second.writeString("changed.ts", "export const b = 2;\n");
+        second.writeString("new.ts", "export const c = 3;\n");
+
+        assertEquals(Set.of(Path.of("changed.ts"), Path.of("new.ts")), second.getChangedFiles());
+        assertEquals(Set.of(Path.of("test/unchanged.ts")), second.getUnchangedFiles());
+        assertEquals(lastModified, Files.getLastModifiedTime(unchangedFile));
+        assertEquals("export const b = 2;\n", Files.readString(outputRoot.resolve("changed.ts")));
+    }
+
+    @Test
+    void shouldCompareContentLongerThanBuffer() throws IOException {
+        var file = outputRoot.resolve("long.ts");
+        var content = "// line\n".repeat(5000);
+        new GeneratorOutput(outputRoot).writeString("long.ts", content);
+
+        assertTrue(GeneratorOutput.hasContent(file, content.getBytes()));
+        assertFalse(GeneratorOutput.hasContent(file, (content.substring(1) + "x").getBytes()));
+        assertFalse(GeneratorOutput.hasContent(file, content.substring(1).getBytes()));
+    }
+
+    @Test
+    void shouldOnlyReplaceChangedStreamedFiles() throws IOException {
+        var first = new GeneratorOutput(outputRoot);
+        first.write("unchanged.ts", writer -> writer.write("export const a = 1;\n"));
+        first.write("changed.ts", writer -> writer.write("export const b = 1;\n"));
+
+        var second = new GeneratorOutput(outputRoot);
+        second.write("unchanged.ts", writer -> writer.write("export const a = 1;\n"));
+        second.write("changed.ts", writer -> writer.write("export const b = 2;\n"));
+
+        assertEquals(Set.of(Path.of("changed.ts")), second.getChangedFiles());
+        assertEquals(Set.of(Path.of("unchanged.ts")), second.getUnchangedFiles());
+        assertEquals("export const b = 2;\n", Files.readString(outputRoot.resolve("changed.ts")));
+        try (var files = Files.list(outputRoot)) {
+            assertEquals(Set.of(Path.of("changed.ts"), Path.of("unchanged.ts")),
+                    files.map(outputRoot::relativize).collect(Collectors.toSet()));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.openapifactory.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.openapifactory.api.StringUtil.INDENT;
+
+class IndentingWriterTest {
+
+    @Test
+    void shouldIndentEveryLine() throws IOException {
+        var result = new StringWriter();
+        var writer = new IndentingWriter(result);
+        writer.write("export interface Pet {\n");
+        writer.indent(4).write("name: string;\n\nage: number;\n");
+        writer.outdent(4).write("}\n");
+        assertEquals("export interface Pet {\n    name: string;\n    \n    age: number;\n}\n", result.toString());
+    }
+
+    @Test
+    void shouldWriteSameAsStringIndent() throws IOException {
+        var values = List.of("first", "second\nthird", "");
+        var result = new StringWriter();
+        new IndentingWriter(result)
+                .writeIndented(4, values, s -> s + ",\n")
+                .writeIndented(2, values, s -> s)
+                .writeIndented(4, List.<String>of(), s -> s);
+        assertEquals(
+                StringUtil.indent(4, values, s -> s + ",\n") + StringUtil.indent(2, values, s -> s),
+                result.toString()
+        );
+    }
+
+    @Test
+    void shouldWriteSameAsIndentTemplate() throws IOException {
+        var values = List.of("first", "second\n\nthird\n");
+        var result = new StringWriter();
+        new IndentingWriter(result)
+                .append("values {\n")
+                .writeLines(4, values.stream())
+                .append("}\n");
+        assertEquals(INDENT."""
+                values {
+                    \{values.stream()}
+                }
+                """, result.toString());
+    }
+}
@@ -0,0 +1,146 @@
+package org.openapifactory.api;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openapifactory.api.codegen.OpenapiSpec;
+import org.openapifactory.api.parser.SpecMappingNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenapiGeneratorRegistryTest {
+
+    private final Path directory = Path.of("target/openapiGeneratorRegistryTest");
+    private final Path specFile = directory.resolve("spec.yaml");
+    private final List<OpenapiSpec> parsedSpecs = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void writeSpec() throws IOException {
+        if (Files.isDirectory(directory)) {
+            try (var walk = Files.walk(directory)) {
+                walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+        Files.createDirectories(directory);
+        Files.writeString(specFile, """
+                openapi: 3.0.0
+                info:
+                  title: Registry test
+                  version: 1.0.0
+                paths: {}
+                """);
+    }
+
+    @Test
+    void shouldParseOnceForAllTargets() throws IOException {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var registry = new OpenapiGeneratorRegistry(List.of(new TitleGenerator("client"), new TitleGenerator("mocks")), executor, true);
+            var outputs = registry.generate(specFile, Map.of(
+                    "client", directory.resolve("client"),
+                    "mocks", directory.resolve("mocks")
+            ));
+
+            assertEquals(2, parsedSpecs.size());
+            assertSame(parsedSpecs.get(0), parsedSpecs.get(1));
+            assertTrue(parsedSpecs.get(0).isSealed());
+            assertEquals("spec", parsedSpecs.get(0).getName());
+            assertEquals("Registry test", Files.readString(directory.resolve("client/client.txt")));
+            assertEquals("Registry test", Files.readString(directory.resolve("mocks/mocks.txt")));
+            assertEquals(List.of(Path.of("mocks.txt")), List.copyOf(outputs.get("mocks").getChangedFiles()));
+        }
+    }
+
+    @Test
+    void shouldOnlyParseForTargetsThatAreNotUpToDate() throws IOException {
+        var registry = new OpenapiGeneratorRegistry(List.of(new TitleGenerator("client"), new TitleGenerator("mocks")), null, true);
+        registry.generate(specFile, Map.of("client", directory.resolve("client")));
+        assertEquals(1, parsedSpecs.size());
+
+        var outputs = registry.generate(specFile, Map.of("client", directory.resolve("client")));
+        assertEquals(1, parsedSpecs.size());
+        assertEquals(List.of(Path.of("client.txt")), List.copyOf(outputs.get("client").getUnchangedFiles()));
+
+        registry.generate(specFile, Map.of("client", directory.resolve("client"), "mocks", directory.resolve("mocks")));
+        assertEquals(2, parsedSpecs.size());
+    }
+
+    @Test
+    void shouldParseAgainWhenSnapshotIsDamaged() throws IOException {
+        var registry = new OpenapiGeneratorRegistry(List.of(new TitleGenerator("client")), null, true);
+        registry.generate(specFile, Map.of("client", directory.resolve("client")));
+        var snapshotFile = SpecSnapshot.snapshotFile(directory.resolve("client"));
+        var snapshot = Files.readAllBytes(snapshotFile);
+        Files.write(snapshotFile, Arrays.copyOf(snapshot, snapshot.length - 8));
+        Files.delete(directory.resolve("client/client.txt"));
+
+        registry.generate(specFile, Map.of("client", directory.resolve("client")));
+        assertEquals(2, parsedSpecs.size());
+        assertEquals("Registry test", Files.readString(directory.resolve("client/client.txt")));
+        assertEquals("Registry test", SpecSnapshot.read(snapshotFile).getTitle());
+    }
+
+    @Test
+    void shouldParseWithGivenParser() throws IOException {
+        var registry = new OpenapiGeneratorRegistry(List.of(new TitleGenerator("client")), new ExtensionParser(), null, false);
+        registry.generate(specFile, Map.of("client", directory.resolve("client")));
+        assertEquals("Registry test with extensions", Files.readString(directory.resolve("client/client.txt")));
+    }
+
+    @Test
+    void shouldNotReuseOutputOrSnapshotFromOtherParser() throws IOException {
+        new OpenapiGeneratorRegistry(List.of(new TitleGenerator("client")), null, true)
+                .generate(specFile, Map.of("client", directory.resolve("client")));
+
+        new OpenapiGeneratorRegistry(List.of(new TitleGenerator("client")), new ExtensionParser(), null, true)
+                .generate(specFile, Map.of("client", directory.resolve("client")));
+        assertEquals(2, parsedSpecs.size());
+        assertEquals("Registry test with extensions", Files.readString(directory.resolve("client/client.txt")));
+    }
+
+    private static class ExtensionParser extends OpenapiSpecParser {
+        @Override
+        protected void readSpec(SpecMappingNode node, OpenapiSpec spec) {
+            super.readSpec(node, spec);
+            spec.setTitle(spec.getTitle() + " with extensions");
+        }
+    }
+
+    @Test
+    void shouldRejectUnknownGenerator() {
+        var registry = new OpenapiGeneratorRegistry(List.of(new TitleGenerator("client")));
+        var exception = assertThrows(IllegalArgumentException.class, () -> registry.get("java"));
+        assertEquals("Unknown generator java in [client]", exception.getMessage());
+    }
+
+    private class TitleGenerator implements OpenapiGenerator {
+        private final String name;
+
+        private TitleGenerator(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public List<FileGenerator> createFileGenerators(OpenapiSpec spec) {
+            parsedSpecs.add(spec);
+            return List.of(output -> output.writeString(name + ".txt", spec.getTitle()));
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package org.openapifactory.api;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openapifactory.api.codegen.CodegenOperation;
+import org.openapifactory.api.codegen.CodegenProperty;
+import org.openapifactory.api.codegen.types.CodegenAllOfModel;
+import org.openapifactory.api.codegen.types.CodegenGenericModel;
+import org.openapifactory.api.codegen.types.CodegenModel;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenapiSpecParserTest {
+
+    private final Path specDir = Path.of("target/openapiSpecParserTest");
+
+    @BeforeEach
+    void cleanSpecDir() throws IOException {
+        if (Files.isDirectory(specDir)) {
+            try (var walk = Files.walk(specDir)) {
+                walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+        Files.createDirectories(specDir.resolve("schemas"));
+    }
+
+    @Test
+    void shouldResolveReferencesAcrossFiles() throws IOException {
+        writeSpec("""
+                pet:
+                  $ref: './schemas/pet.yaml#/Pet'
+                owner:
+                  $ref: './schemas/owner.yaml#/Owner'
+                address:
+                  $ref: './schemas/address.yaml#/Address'
+                """);
+        Files.writeString(specDir.resolve("schemas/pet.yaml"), """
+                Pet:
+                  type: object
+                  properties:
+                    owner:
+                      $ref: './schemas/owner.yaml#/Owner'
+                    tag:
+                      $ref: './schemas/tag.yaml#/Tag'
+                """);
+        Files.writeString(specDir.resolve("schemas/owner.yaml"), """
+                Owner:
+                  type: object
+                  properties:
+                    name:
+                      type: string
+                """);
+        Files.writeString(specDir.resolve("schemas/address.yaml"), """
+                Address:
+                  type: object
+                  properties:
+                    street:
+                      type: string
+                """);
+        Files.writeString(specDir.resolve("schemas/tag.yaml"), """
+                Tag:
+                  type: string
+                  enum: [a, b]
+                """);
+
+        var spec = new OpenapiSpecParser().createOpenApiSpec(specDir.resolve("spec.yaml"));
+        assertEquals(
+                List.of("schemas/pet.yaml", "schemas/owner.yaml", "schemas/address.yaml", "schemas/tag.yaml"),
+                spec.getExternalFiles().stream().map(this::relativeName).toList()
+        );
+        var references = spec.getSchemaReferences();
+        assertEquals(
+                List.of("Pet", "Owner", "Address", "Tag"),
+                references.getResolvedSchemas().values().stream().map(CodegenModel::getName).distinct().toList()
+        );
+        assertEquals(4, references.getResolvedCount());
+        assertEquals(0, references.getPendingCount());
+    }
+
+    @Test
+    void shouldSealSpecAfterReading() throws IOException {
+        writeSpec("""
+                name:
+                  type: string
+                """);
+        var spec = new OpenapiSpecParser().createOpenApiSpec(specDir.resolve("spec.yaml"));
+        assertTrue(spec.isSealed());
+        assertSame(spec.getModels(), spec.getModels());
+        assertSame(spec.getApis(), spec.getApis());
+        assertThrows(UnsupportedOperationException.class, () -> spec.getModels().clear());
+        var exception = assertThrows(IllegalStateException.class, () -> spec.addGenericModel("Late"));
+        assertEquals("Spec null is sealed", exception.getMessage());
+
+        assertSame(spec.getDerivedView(Object.class, s -> new Object()), spec.getDerivedView(Object.class, s -> new Object()));
+    }
+
+    @Test
+    void shouldReportFirstMissingFile() throws IOException {
+        writeSpec("""
+                pet:
+                  $ref: './schemas/pet.yaml#/Pet'
+                missing:
+                  $ref: './schemas/missing.yaml#/Missing'
+                alsoMissing:
+                  $ref: './schemas/alsoMissing.yaml#/AlsoMissing'
+                """);
+        Files.writeString(specDir.resolve("schemas/pet.yaml"), """
+                Pet:
+                  type: object
+                """);
+        var exception = assertThrows(NoSuchFileException.class,
+                () -> new OpenapiSpecParser().createOpenApiSpec(specDir.resolve("spec.yaml")));
+        assertEquals(specDir.resolve("schemas/missing.yaml").toAbsolutePath().toString(), exception.getMessage());
+    }
+
+    @Test
+    void shouldReportMissingAnchor() throws IOException {
+        writeSpec("""
+                pet:
+                  $ref: './schemas/pet.yaml#/Dog'
+                """);
+        Files.writeString(specDir.resolve("schemas/pet.yaml"), """
+                Pet:
+                  type: object
+                """);
+        var exception = assertThrows(RuntimeException.class,
+                () -> new OpenapiSpecParser().createOpenApiSpec(specDir.resolve("spec.yaml")));
+        assertEquals("missing required key [Dog] (keys: [Pet])", exception.getMessage().split(" at ")[0]);
+    }
+
+    @Test
+    void shouldReadModelsInParallelInDeclarationOrder() throws IOException {
+        var schemas = new StringBuilder();
+        for (int i = 99; i >= 0; i--) {
+            schemas.append("""
+                    Model%d:
+                      type: object
+                      properties:
+                        next:
+                          $ref: '#/components/schemas/Model%d'
+                        external:
+                          $ref: './schemas/external%d.yaml#/External%d'
+                    """.formatted(i, (i + 1) % 100, i % 3, i % 3));
+        }
+        for (int i = 0; i < 3; i++) {
+            Files.writeString(specDir.resolve("schemas/external" + i + ".yaml"), """
+                    External%d:
+                      type: string
+                      enum: [a, b]
+                    """.formatted(i));
+        }
+        writeSchemas(schemas.toString());
+
+        var sequential = new OpenapiSpecParser().createOpenApiSpec(specDir.resolve("spec.yaml"));
+        var parser = new OpenapiSpecParser();
+        try (var pool = new ForkJoinPool(4)) {
+            parser.setPool(pool);
+            var parallel = parser.createOpenApiSpec(specDir.resolve("spec.yaml"));
+            assertEquals(new ArrayList<>(sequential.getModelMap().keySet()), new ArrayList<>(parallel.getModelMap().keySet()));
+            assertEquals("Model99", parallel.getModelMap().keySet().iterator().next());
+            assertEquals(
+                    List.of("schemas/external0.yaml", "schemas/external2.yaml", "schemas/external1.yaml"),
+                    parallel.getExternalFiles().stream().map(this::relativeName).toList()
+            );
+            assertEquals(sequential.getExternalFiles(), parallel.getExternalFiles());
+            assertEquals(3, parallel.getSchemaReferences().getResolvedCount());
+        }
+    }
+
+    @Test
+    void shouldReportFirstFailingModelInParallel() throws IOException {
+        writeSchemas("""
+                Valid:
+                  type: object
+                  properties: {}
+                First:
+                  type: object
+                  properties: {}
+                  unknown: true
+                Second:
+                  description: no type
+                """);
+        var parser = new OpenapiSpecParser();
+        try (var pool = new ForkJoinPool(4)) {
+            parser.setPool(pool);
+            var exception = assertThrows(RuntimeException.class, () -> parser.createOpenApiSpec(specDir.resolve("spec.yaml")));
+            assertTrue(exception.getMessage().startsWith("Unused keys [unknown]"), exception.getMessage());
+        }
+    }
+
+    @Test
+    void shouldReadPathsInParallelInPathOrder() throws IOException {
+        var paths = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            paths.append("""
+                    /items%d:
+                      post:
+                        operationId: %s
+                        tags: [Tag%d, All]
+                        requestBody:
+                          content:
+                            application/json:
+                              schema:
+                                type: object
+                                properties:
+                                  path%d:
+                                    type: string
+                        responses:
+                          200:
+                            content:
+                              application/json:
+                                schema:
+                                  $ref: '#/components/schemas/Item'
+                    """.formatted(i, i % 10 == 9 ? "duplicate" : "create" + i, i % 3, i));
+        }
+        Files.writeString(specDir.resolve("spec.yaml"), """
+                openapi: 3.0.0
+                info:
+                  title: Test
+                  version: 1.0.0
+                paths:
+                """ + paths.toString().indent(2) + """
+                components:
+                  schemas:
+                    DuplicateRequest:
+                      type: object
+                      properties:
+                        component:
+                          type: string
+                    Item:
+                      type: object
+                      properties:
+                        name:
+                          type: string
+                """);
+
+        var sequential = new OpenapiSpecParser().createOpenApiSpec(specDir.resolve("spec.yaml"));
+        var parser = new OpenapiSpecParser();
+        try (var pool = new ForkJoinPool(4)) {
+            parser.setPool(pool);
+            var parallel = parser.createOpenApiSpec(specDir.resolve("spec.yaml"));
+            assertEquals(new ArrayList<>(sequential.getModelMap().keySet()), new ArrayList<>(parallel.getModelMap().keySet()));
+            assertEquals(
+                    sequential.getApis().stream().map(api -> api.getTag() + api.getOperations().stream().map(CodegenOperation::getPath).toList()).toList(),
+                    parallel.getApis().stream().map(api -> api.getTag() + api.getOperations().stream().map(CodegenOperation::getPath).toList()).toList()
+            );
+            assertEquals("DuplicateRequest", parallel.getModelMap().keySet().iterator().next());
+            var duplicate = (CodegenGenericModel) parallel.getModelMap().get("DuplicateRequest");
+            assertEquals(List.of("path49"), new ArrayList<>(duplicate.getProperties().keySet()));
+            assertEquals("/items49", parallel.getApiMap().get("All").getOperations().stream()
+                    .filter(o -> o.getOperationId().equals("duplicate")).findFirst().orElseThrow().getPath());
+        }
+    }
+
+    @Test
+    void shouldGiveEachNodeItsOwnId() throws IOException {
+        writeSchemas("""
+                First:
+                  type: object
+                  properties:
+                    name: { type: string }
+                Second:
+                  type: object
+                  properties:
+                    name: { type: string }
+                Third:
+                  required: [name]
+                  allOf:
+                    - $ref: '#/components/schemas/First'
+                    - properties:
+                        size: { type: integer }
+                """);
+        var spec = new OpenapiSpecParser().createOpenApiSpec(specDir.resolve("spec.yaml"));
+        var first = (CodegenGenericModel) spec.getModelMap().get("First");
+        var second = (CodegenGenericModel) spec.getModelMap().get("Second");
+        assertNotEquals(first.getProperties().get("name"), second.getProperties().get("name"));
+
+        var seen = new boolean[spec.getNodeCount()];
+        for (var model : List.of(first, second)) {
+            for (var id : List.of(model.getId(), model.getProperties().get("name").getId())) {
+                assertFalse(seen[id], "Duplicate id " + id);
+                seen[id] = true;
+            }
+        }
+
+        var third = (CodegenAllOfModel) spec.getModelMap().get("Third");
+        var ownProperties = third.getOwnProperties();
+        assertEquals(List.of("name", "size"), ownProperties.stream().map(CodegenProperty::getName).toList());
+        assertNotEquals(first.getProperties().get("name").getId(), ownProperties.get(0).getId());
+        assertTrue(ownProperties.get(0).getId() < seen.length);
+        assertSame(ownProperties, third.getOwnProperties());
+        assertTrue(third.getAllProperties().contains(ownProperties.get(0)));
+        assertEquals(seen.length, spec.getNodeCount());
+    }
+
+    private void writeSchemas(String schemas) throws IOException {
+        Files.writeString(specDir.resolve("spec.yaml"), """
+                openapi: 3.0.0
+                info:
+                  title: Test
+                  version: 1.0.0
+                paths: {}
+                components:
+                  schemas:
+                """ + schemas.indent(4));
+    }
+
+    private void writeSpec(String properties) throws IOException {
+        Files.writeString(specDir.resolve("spec.yaml"), """
+                openapi: 3.0.0
+                info:
+                  title: Test
+                  version: 1.0.0
+                paths: {}
+                components:
+                  schemas:
+                    Root:
+                      type: object
+                      properties:
+                """ + properties.indent(8));
+    }
+
+    private String relativeName(URL url) {
+        var path = url.getPath();
+        return path.substring(path.indexOf(specDir.getFileName().toString()) + specDir.getFileName().toString().length() + 1);
+    }
+}
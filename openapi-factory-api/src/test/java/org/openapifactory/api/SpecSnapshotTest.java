@@ -0,0 +1,115 @@
+package org.openapifactory.api;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openapifactory.api.codegen.types.CodegenGenericModel;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpecSnapshotTest {
+
+    private final Path directory = Path.of("target/specSnapshotTest");
+    private final Path specFile = directory.resolve("spec.yaml");
+    private final Path snapshotFile = SpecSnapshot.snapshotFile(directory.resolve("output"));
+    private final OpenapiSpecParser parser = new OpenapiSpecParser();
+
+    @BeforeEach
+    void writeSpec() throws IOException {
+        if (Files.isDirectory(directory)) {
+            try (var walk = Files.walk(directory)) {
+                walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("common.yaml"), """
+                Address:
+                  type: object
+                  properties:
+                    street: { type: string }
+                """);
+        Files.writeString(specFile, """
+                openapi: 3.0.0
+                info:
+                  title: Snapshot test
+                  version: 1.0.0
+                paths:
+                  /people:
+                    get:
+                      operationId: listPeople
+                      tags: [people]
+                      responses:
+                        200:
+                          content:
+                            application/json:
+                              schema:
+                                type: array
+                                items: { $ref: "#/components/schemas/Person" }
+                components:
+                  schemas:
+                    Person:
+                      type: object
+                      properties:
+                        name: { type: string }
+                        address: { $ref: "./common.yaml#/Address" }
+                        manager: { $ref: "#/components/schemas/Person" }
+                """);
+    }
+
+    @Test
+    void shouldReadSpecAsWritten() throws IOException {
+        var spec = parser.createOpenApiSpec(specFile);
+        SpecSnapshot.write(spec, parser, specFile.toUri().toURL(), snapshotFile);
+
+        var restored = SpecSnapshot.readIfUpToDate(snapshotFile, parser, specFile.toUri().toURL()).orElseThrow();
+        assertTrue(restored.isSealed());
+        assertEquals("Snapshot test", restored.getTitle());
+        assertEquals(List.copyOf(spec.getModelMap().keySet()), List.copyOf(restored.getModelMap().keySet()));
+        assertEquals(spec.getExternalFiles(), restored.getExternalFiles());
+        var person = (CodegenGenericModel) restored.getModelMap().get("Person");
+        var manager = person.getProperties().get("manager");
+        assertSame(person, manager.getModel());
+        assertEquals(
+                "listPeople",
+                restored.getApis().iterator().next().getOperations().iterator().next().getOperationId()
+        );
+    }
+
+    @Test
+    void shouldIgnoreSnapshotWhenReferencedFileChanged() throws IOException {
+        var spec = parser.createOpenApiSpec(specFile);
+        SpecSnapshot.write(spec, parser, specFile.toUri().toURL(), snapshotFile);
+        Files.writeString(directory.resolve("common.yaml"), "Address: { type: string }\n");
+
+        assertTrue(SpecSnapshot.readIfUpToDate(snapshotFile, parser, specFile.toUri().toURL()).isEmpty());
+        assertTrue(SpecSnapshot.readIfUpToDate(snapshotFile, parser, directory.resolve("common.yaml").toUri().toURL()).isEmpty());
+    }
+
+    @Test
+    void shouldIgnoreSnapshotFromOtherParser() throws IOException {
+        var spec = parser.createOpenApiSpec(specFile);
+        SpecSnapshot.write(spec, parser, specFile.toUri().toURL(), snapshotFile);
+
+        var otherParser = new OpenapiSpecParser() {
+        };
+        assertTrue(SpecSnapshot.readIfUpToDate(snapshotFile, otherParser, specFile.toUri().toURL()).isEmpty());
+        assertTrue(SpecSnapshot.readIfUpToDate(snapshotFile, parser, specFile.toUri().toURL()).isPresent());
+    }
+
+    @Test
+    void shouldRejectOtherFiles() throws IOException {
+        Files.createDirectories(snapshotFile.getParent());
+        Files.writeString(snapshotFile, "generator 1.0");
+        var exception = assertThrows(IOException.class, () -> SpecSnapshot.read(snapshotFile));
+        assertEquals("Not a spec snapshot", exception.getMessage());
+    }
+}
@@ -0,0 +1,76 @@
+package org.openapifactory.api.codegen;
+
+import org.junit.jupiter.api.Test;
+import org.openapifactory.api.codegen.types.CodegenSchemaRef;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SchemaReferenceRegistryTest {
+
+    private final OpenapiSpec spec = new OpenapiSpec();
+
+    @Test
+    void shouldRegisterEachReferenceOnce() {
+        new CodegenSchemaRef(spec, "#/components/schemas/Pet", "");
+        new CodegenSchemaRef(spec, "#/components/schemas/Pet", "");
+        new CodegenSchemaRef(spec, "./schemas/pet.yaml#/Pet", "");
+        new CodegenSchemaRef(spec, "./schemas/pet.yaml#/Pet", "");
+        var references = spec.getSchemaReferences();
+        assertEquals(2, references.getReferenceCount());
+        assertEquals(1, references.getPendingCount());
+    }
+
+    @Test
+    void shouldShareParsedReference() {
+        var first = new CodegenSchemaRef(spec, "#/Polygon", "./schemas/geojson.yaml");
+        var second = new CodegenSchemaRef(spec, "./schemas/geojson.yaml#/Polygon", "");
+        assertSame(first.getTarget(), second.getTarget());
+        assertEquals(first, second);
+        var target = first.getTarget();
+        assertEquals("./schemas/geojson.yaml", target.getFilename());
+        assertEquals(List.of("Polygon"), target.getAnchorPath());
+        assertEquals("Polygon", first.getClassName());
+
+        var local = new CodegenSchemaRef(spec, "#/components/schemas/Pet", "").getTarget();
+        assertNull(local.getFilename());
+        assertEquals(List.of("components", "schemas", "Pet"), local.getAnchorPath());
+    }
+
+    @Test
+    void shouldRejectInvalidReference() {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new CodegenSchemaRef(spec, "#/components/schemas/Pet Store", ""));
+        assertEquals("Invalid format for $ref: #/components/schemas/Pet Store", exception.getMessage());
+    }
+
+    @Test
+    void shouldQueueExternalReferencesInOrder() {
+        var dog = new CodegenSchemaRef(spec, "./schemas/dog.yaml#/Dog", "");
+        new CodegenSchemaRef(spec, "#/Cat", "");
+        var cat = new CodegenSchemaRef(spec, "#/Cat", "./schemas/cat.yaml");
+        var references = spec.getSchemaReferences();
+        assertEquals(List.of(dog.getTarget(), cat.getTarget()), references.takePending());
+        assertEquals(List.of(), references.takePending());
+
+        var owner = new CodegenSchemaRef(spec, "./schemas/owner.yaml#/Owner", "");
+        assertEquals(List.of(owner.getTarget()), references.takePending());
+    }
+
+    @Test
+    void shouldSkipResolvedReferences() {
+        var dog = new CodegenSchemaRef(spec, "./schemas/dog.yaml#/Dog", "");
+        var cat = new CodegenSchemaRef(spec, "./schemas/cat.yaml#/Cat", "");
+        var references = spec.getSchemaReferences();
+        var model = spec.addGenericModel("Dog");
+        references.resolve(dog.getTarget(), model);
+
+        assertEquals(List.of(cat.getTarget()), references.takePending());
+        assertEquals(1, references.getResolvedCount());
+        assertSame(model, spec.getModel(new CodegenSchemaRef(spec, "./schemas/dog.yaml#/Dog", "")));
+    }
+}
@@ -0,0 +1,27 @@
+package org.openapifactory.api.codegen.types;
+
+import org.junit.jupiter.api.Test;
+import org.openapifactory.api.codegen.OpenapiSpec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class CodegenArrayModelTest {
+
+    @Test
+    void shouldOnlyEqualItself() {
+        var spec = new OpenapiSpec();
+        var items = new CodegenPrimitiveSchema();
+        var model = new CodegenArrayModel(spec, "Names");
+        model.setItems(items);
+        var schema = new CodegenArraySchema();
+        schema.setItems(items);
+        var otherSchema = new CodegenArraySchema();
+        otherSchema.setItems(items);
+
+        assertEquals(schema, otherSchema);
+        assertNotEquals(schema, model);
+        assertNotEquals(model, schema);
+        assertEquals(model, model);
+    }
+}
@@ -0,0 +1,144 @@
+package org.openapifactory.api.codegen.types;
+
+import org.junit.jupiter.api.Test;
+import org.openapifactory.api.OpenapiSpecParser;
+import org.openapifactory.api.codegen.CodegenProperty;
+import org.openapifactory.api.codegen.OpenapiSpec;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SchemaAnalysisTest {
+
+    @Test
+    void shouldFindReadOnlyPropertiesInRecursiveModels() throws IOException {
+        var spec = readSpec("""
+                Tree:
+                  type: object
+                  properties:
+                    children:
+                      type: array
+                      items:
+                        $ref: '#/components/schemas/Tree'
+                    leaf:
+                      $ref: '#/components/schemas/Leaf'
+                Leaf:
+                  type: object
+                  properties:
+                    parent:
+                      $ref: '#/components/schemas/Tree'
+                    owner:
+                      $ref: '#/components/schemas/Owner'
+                Owner:
+                  type: object
+                  required: [id]
+                  properties:
+                    id:
+                      type: string
+                      readOnly: true
+                Plain:
+                  type: object
+                  properties:
+                    self:
+                      $ref: '#/components/schemas/Plain'
+                """);
+        var tree = (CodegenGenericModel) spec.getModelMap().get("Tree");
+        var leaf = (CodegenGenericModel) spec.getModelMap().get("Leaf");
+        assertTrue(tree.hasReadOnlyProperties());
+        assertTrue(leaf.hasReadOnlyProperties());
+        assertFalse(spec.getModelMap().get("Plain").hasReadOnlyProperties());
+        assertFalse(tree.hasWriteOnlyProperties());
+        assertEquals(List.of("children", "leaf"), names(tree.getOmittedPropertiesForReadOnly()));
+        assertEquals(List.of("parent", "owner"), names(leaf.getReferencesWithReadOnlyProperties()));
+    }
+
+    @Test
+    void shouldFlattenAllOfChainOnce() throws IOException {
+        var spec = readSpec("""
+                Base:
+                  type: object
+                  required: [id]
+                  properties:
+                    id:
+                      type: string
+                      readOnly: true
+                Middle:
+                  allOf:
+                    - $ref: '#/components/schemas/Base'
+                    - properties:
+                        name:
+                          type: string
+                Top:
+                  allOf:
+                    - $ref: '#/components/schemas/Middle'
+                    - properties:
+                        size:
+                          type: integer
+                """);
+        var top = (CodegenAllOfModel) spec.getModelMap().get("Top");
+        assertEquals(List.of("id", "name", "size"), names(top.getAllProperties()));
+        assertSame(top.getAllProperties(), top.getAllProperties());
+        assertTrue(top.hasReadOnlyProperties());
+        assertEquals(List.of("id"), names(top.getOmittedPropertiesForReadOnly()));
+        assertEquals(List.of("Base", "Middle", "Top"), spec.getModelsInDependencyOrder().stream().map(CodegenModel::getName).toList());
+    }
+
+    @Test
+    void shouldAnalyzeModelsOutsideTheSpecOnce() throws IOException {
+        var spec = readSpec("""
+                Owner:
+                  type: object
+                  required: [id]
+                  properties:
+                    id:
+                      type: string
+                      readOnly: true
+                """);
+        var replaced = new CodegenGenericModel(spec, "Pet");
+        replaced.addProperty("owner").setSchema(spec.getModelMap().get("Owner"));
+        assertTrue(replaced.hasReadOnlyProperties());
+        assertEquals(List.of("owner"), names(replaced.getReferencesWithReadOnlyProperties()));
+        assertSame(replaced.getOmittedPropertiesForReadOnly(), replaced.getOmittedPropertiesForReadOnly());
+    }
+
+    @Test
+    void shouldAnalyzeSpecThatIsNotSealed() {
+        var spec = new OpenapiSpec();
+        var model = spec.addGenericModel("Pet");
+        var id = model.addProperty("id");
+        id.setSchema(new CodegenPrimitiveSchema());
+        assertFalse(model.hasReadOnlyProperties());
+
+        id.setRequired(true);
+        id.setReadOnly(true);
+        assertTrue(model.hasReadOnlyProperties());
+        assertEquals(List.of("id"), names(model.getOmittedPropertiesForReadOnly()));
+    }
+
+    private static List<String> names(Collection<CodegenProperty> properties) {
+        return properties.stream().map(CodegenProperty::getName).toList();
+    }
+
+    private static OpenapiSpec readSpec(String schemas) throws IOException {
+        var file = Path.of("target/schemaAnalysisTest/spec.yaml");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, """
+                openapi: 3.0.0
+                info:
+                  title: Test
+                  version: 1.0.0
+                paths: {}
+                components:
+                  schemas:
+                """ + schemas.indent(4));
+        return new OpenapiSpecParser().createOpenApiSpec(file);
+    }
+}
@@ -0,0 +1,79 @@
+package org.openapifactory.api.codegen.types;
+
+import org.junit.jupiter.api.Test;
+import org.openapifactory.api.codegen.OpenapiSpec;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SchemaGraphTest {
+
+    private final OpenapiSpec spec = new OpenapiSpec();
+    private final Map<CodegenModel, List<CodegenModel>> edges = new IdentityHashMap<>();
+
+    @Test
+    void shouldOrderModelsAfterDependencies() {
+        var order = model("Order");
+        var customer = model("Customer");
+        var address = model("Address");
+        dependsOn(order, customer, address);
+        dependsOn(customer, address);
+
+        var graph = new SchemaGraph(List.of(order, customer, address), this::dependencies);
+        assertEquals(List.of(address, customer, order), graph.getModelsInDependencyOrder());
+        assertFalse(graph.isRecursive(order));
+    }
+
+    @Test
+    void shouldGroupRecursiveModels() {
+        var node = model("Node");
+        var tree = model("Tree");
+        var branch = model("Branch");
+        var leaf = model("Leaf");
+        dependsOn(node, node);
+        dependsOn(tree, branch);
+        dependsOn(branch, tree, leaf);
+
+        var graph = new SchemaGraph(List.of(node, tree), this::dependencies);
+        assertTrue(graph.isRecursive(node));
+        assertTrue(graph.isRecursive(tree));
+        assertFalse(graph.isRecursive(leaf));
+        assertEquals(List.of(List.of(node), List.of(leaf), List.of(tree, branch)), graph.getComponents());
+
+        assertEquals(Set.of(leaf, tree, branch), graph.findDependingOn(m -> m == leaf));
+    }
+
+    @Test
+    void shouldHandleLongChains() {
+        var models = new ArrayList<CodegenModel>();
+        for (int i = 0; i < 20_000; i++) {
+            var model = model("Model" + i);
+            if (i > 0) {
+                dependsOn(model, models.get(i - 1));
+            }
+            models.add(model);
+        }
+        var graph = new SchemaGraph(List.of(models.get(models.size() - 1)), this::dependencies);
+        assertEquals(models, graph.getModelsInDependencyOrder());
+        assertEquals(models.size(), graph.findDependingOn(m -> m == models.get(0)).size());
+    }
+
+    private CodegenModel model(String name) {
+        return spec.addGenericModel(name);
+    }
+
+    private void dependsOn(CodegenModel model, CodegenModel... dependencies) {
+        edges.put(model, List.of(dependencies));
+    }
+
+    private List<CodegenModel> dependencies(CodegenModel model) {
+        return edges.getOrDefault(model, List.of());
+    }
+}
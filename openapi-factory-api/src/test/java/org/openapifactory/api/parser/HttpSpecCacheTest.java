@@ -0,0 +1,152 @@
+package org.openapifactory.api.parser;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HttpSpecCacheTest {
+
+    private final Path directory = Path.of("target/httpSpecCacheTest");
+    private final List<String> conditionalHeaders = new ArrayList<>();
+    private HttpServer server;
+    private String content = "{\"info\": {\"title\": \"First\"}}";
+    private String etag;
+    private String lastModified;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        if (Files.isDirectory(directory)) {
+            try (var walk = Files.walk(directory)) {
+                walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+        Files.createDirectories(directory);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/spec.json", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldRevalidateWithETag() throws IOException {
+        etag = "\"v1\"";
+        var cache = new HttpSpecCache(directory.resolve("cache"));
+        assertEquals(content, read(cache));
+        assertEquals(content, read(cache));
+        assertEquals(List.of("none", "If-None-Match: \"v1\""), conditionalHeaders);
+
+        etag = "\"v2\"";
+        content = "{\"info\": {\"title\": \"Second\"}}";
+        assertEquals(content, read(cache));
+        assertEquals(content, read(new HttpSpecCache(directory.resolve("cache"), true)));
+    }
+
+    @Test
+    void shouldRevalidateWithLastModified() throws IOException {
+        lastModified = "Wed, 21 Oct 2015 07:28:00 GMT";
+        var cache = new HttpSpecCache(directory.resolve("cache"));
+        read(cache);
+        read(cache);
+        assertEquals(List.of("none", "If-Modified-Since: " + lastModified), conditionalHeaders);
+    }
+
+    @Test
+    void shouldUseCachedCopyWhenServerIsUnavailable() throws IOException {
+        var cache = new HttpSpecCache(directory.resolve("cache"));
+        var expected = read(cache);
+        server.stop(0);
+        assertEquals(expected, read(cache));
+    }
+
+    @Test
+    void shouldOnlyUseCachedCopiesWhenOffline() throws IOException {
+        var offline = new HttpSpecCache(directory.resolve("cache"), true);
+        var exception = assertThrows(IOException.class, () -> read(offline));
+        assertEquals("No cached copy of " + specUrl() + " in offline mode", exception.getMessage());
+        assertEquals(List.of(), conditionalHeaders);
+
+        read(new HttpSpecCache(directory.resolve("cache")));
+        assertEquals(content, read(offline));
+        assertEquals(List.of("none"), conditionalHeaders);
+    }
+
+    @Test
+    void shouldReportFailuresWithoutCachedCopy() throws IOException {
+        content = null;
+        var cache = new HttpSpecCache(directory.resolve("cache"));
+        var exception = assertThrows(IOException.class, () -> read(cache));
+        assertEquals("Unexpected response 500 from " + specUrl(), exception.getMessage());
+    }
+
+    @Test
+    void shouldReadLinkFilesThroughCache() throws IOException {
+        var link = directory.resolve("remote.link");
+        Files.writeString(link, specUrl() + "\n");
+        var node = SpecMappingNode.read(link.toUri().toURL(), "", new HttpSpecCache(directory.resolve("cache")));
+        assertEquals("First", node.mappingNode("info").required().string("title").required());
+
+        server.stop(0);
+        var cachedNode = new SpecFileCache(new HttpSpecCache(directory.resolve("cache"), true)).read(link.toUri().toURL(), "");
+        assertEquals("First", cachedNode.mappingNode("info").required().string("title").required());
+        assertNull(cachedNode.mappingNode("paths").orNull());
+    }
+
+    private String read(HttpSpecCache cache) throws IOException {
+        return StandardCharsets.UTF_8.decode(cache.read(specUrl())).toString();
+    }
+
+    private URL specUrl() throws IOException {
+        return new URL("http://localhost:" + server.getAddress().getPort() + "/spec.json");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        var ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        var ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+        if (ifNoneMatch != null) {
+            conditionalHeaders.add("If-None-Match: " + ifNoneMatch);
+        } else if (ifModifiedSince != null) {
+            conditionalHeaders.add("If-Modified-Since: " + ifModifiedSince);
+        } else {
+            conditionalHeaders.add("none");
+        }
+
+        if (content == null) {
+            exchange.sendResponseHeaders(500, -1);
+        } else if ((ifNoneMatch != null && ifNoneMatch.equals(etag)) || (ifModifiedSince != null && ifModifiedSince.equals(lastModified))) {
+            exchange.sendResponseHeaders(304, -1);
+        } else {
+            if (etag != null) {
+                exchange.getResponseHeaders().set("ETag", etag);
+            }
+            if (lastModified != null) {
+                exchange.getResponseHeaders().set("Last-Modified", lastModified);
+            }
+            var body = content.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+        exchange.close();
+    }
+}
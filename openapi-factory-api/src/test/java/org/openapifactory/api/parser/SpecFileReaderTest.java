@@ -0,0 +1,74 @@
+package org.openapifactory.api.parser;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SpecFileReaderTest {
+
+    private final Path directory = Path.of("target/specFileReaderTest");
+
+    @BeforeEach
+    void createDirectory() throws IOException {
+        Files.createDirectories(directory);
+    }
+
+    @Test
+    void shouldDetectFormatFromSuffix() {
+        assertEquals(SpecFileReader.Format.YAML, SpecFileReader.detectFormat("/specs/spec.yaml", "{}"));
+        assertEquals(SpecFileReader.Format.YAML, SpecFileReader.detectFormat("/specs/spec.yml", "{}"));
+        assertEquals(SpecFileReader.Format.JSON, SpecFileReader.detectFormat("/specs/spec.json", "openapi: 3.0.2"));
+        assertEquals(SpecFileReader.Format.LINK, SpecFileReader.detectFormat("/specs/spec.link", "https://example.com/spec.json"));
+    }
+
+    @Test
+    void shouldDetectFormatFromContentWithoutSuffix() {
+        assertEquals(SpecFileReader.Format.JSON, SpecFileReader.detectFormat("/api/spec", "\n  {\"openapi\": \"3.0.2\"}"));
+        assertEquals(SpecFileReader.Format.YAML, SpecFileReader.detectFormat("/api/spec", "openapi: 3.0.2\n"));
+        assertEquals(SpecFileReader.Format.YAML, SpecFileReader.detectFormat("/api/spec", ""));
+    }
+
+    @Test
+    void shouldReadJsonWithoutSuffix() throws IOException {
+        var file = directory.resolve("spec");
+        Files.writeString(file, "{\"info\": {\"title\": \"From JSON\"}}");
+        var node = SpecMappingNode.read(file.toUri().toURL(), "");
+        assertEquals("From JSON", node.mappingNode("info").required().string("title").required());
+    }
+
+    @Test
+    void shouldReadAsUtf8WithByteOrderMark() throws IOException {
+        var file = directory.resolve("utf8.yaml");
+        Files.writeString(file, "\uFEFFinfo:\n  title: Blåbærsyltetøy\n", StandardCharsets.UTF_8);
+        var node = SpecMappingNode.read(file.toUri().toURL(), "");
+        assertEquals("Blåbærsyltetøy", node.mappingNode("info").required().string("title").required());
+    }
+
+    @Test
+    void shouldRejectInvalidUtf8() throws IOException {
+        var file = directory.resolve("latin1.yaml");
+        Files.writeString(file, "info:\n  title: Blåbær\n", StandardCharsets.ISO_8859_1);
+        var exception = assertThrows(IOException.class, () -> SpecMappingNode.read(file.toUri().toURL(), ""));
+        assertEquals("Spec file is not valid UTF-8: " + file.toUri().toURL(), exception.getMessage());
+    }
+
+    @Test
+    void shouldReadLargeFiles() throws IOException {
+        var large = directory.resolve("large.json");
+        var content = new StringBuilder("{\"info\": {\"title\": \"Large æøå\"}, \"padding\": [");
+        while (content.length() < 1024 * 1024) {
+            content.append("\"0123456789abcdef\", ");
+        }
+        content.append("\"end\"]}");
+        Files.writeString(large, content);
+        var node = SpecMappingNode.read(large.toUri().toURL(), "");
+        assertEquals("Large æøå", node.mappingNode("info").required().string("title").required());
+    }
+}
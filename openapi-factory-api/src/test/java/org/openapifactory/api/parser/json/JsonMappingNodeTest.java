@@ -0,0 +1,114 @@
+package org.openapifactory.api.parser.json;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.openapifactory.api.parser.SpecMappingNode;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonMappingNodeTest {
+
+    private static final String SPEC = """
+            {
+              "info": {
+                "title": "Test",
+                "version": 1.0,
+                "extra": true
+              },
+              "paths": {
+                "/pets": {
+                  "get": { "tags": ["pets", 2] }
+                }
+              }
+            }
+            """;
+
+    @Test
+    void shouldReportUnusedKeysWithPathAndPosition() throws MalformedURLException {
+        var info = read(SPEC).mappingNode("info").required();
+        assertEquals("Test", info.string("title").required());
+        var exception = assertThrows(RuntimeException.class, info::checkUnused);
+        assertEquals("Unused keys [extra, version] in spec.json#/info file:/specs/spec.json:2:11", exception.getMessage());
+
+        assertEquals("1.0", info.string("version").required());
+        assertEquals("true", info.string("extra").required());
+        assertDoesNotThrow(info::checkUnused);
+    }
+
+    @Test
+    void shouldReportMissingKeysWithNestedPath() throws MalformedURLException {
+        var operation = read(SPEC).mappingNode("paths").required()
+                .mappingNode("/pets").required()
+                .mappingNode("get").required();
+        assertEquals(List.of("pets", "2"), operation.sequenceNode("tags").required().stringList());
+        var exception = assertThrows(RuntimeException.class, () -> operation.string("operationId").required());
+        assertEquals("required operationId in spec.json#/paths//pets/get file:/specs/spec.json:9:14", exception.getMessage());
+    }
+
+    @Test
+    void shouldKeepFirstPositionAndLastValueOfDuplicateKeys() throws MalformedURLException {
+        var node = read("{\"b\": 1, \"a\": 2, \"b\": 3}");
+        assertEquals(List.of("b", "a"), List.copyOf(node.keySet()));
+        assertEquals("3", node.string("b").required());
+    }
+
+    @TestFactory
+    Stream<DynamicTest> shouldReadSameAsJsonReader() throws IOException {
+        try (var files = Files.list(Path.of("../snapshotTests"))) {
+            return files.filter(f -> f.getFileName().toString().endsWith(".json")).toList().stream()
+                    .map(file -> DynamicTest.dynamicTest(file.getFileName().toString(), () -> {
+                        var content = Files.readString(file);
+                        var document = JsonDocument.read(new StringReader(content));
+                        var expected = Json.createReader(new StringReader(content)).readObject();
+                        assertEquals(expected.toString(), document.toJson(0));
+                        assertSameKeys(expected, document, 0);
+                    }));
+        }
+    }
+
+    private static void assertSameKeys(JsonValue expected, JsonDocument document, int node) {
+        if (expected instanceof JsonObject object) {
+            assertEquals(List.copyOf(object.keySet()), keys(document, node));
+            for (var key : object.keySet()) {
+                var position = document.position(node, key);
+                assertSameKeys(object.get(key), document, document.child(node, position));
+            }
+        } else if (expected instanceof JsonArray array) {
+            for (int i = 0; i < array.size(); i++) {
+                assertSameKeys(array.get(i), document, document.child(node, i));
+            }
+        } else if (expected instanceof JsonString string) {
+            assertEquals(string.getString(), document.value(node));
+        }
+    }
+
+    private static List<String> keys(JsonDocument document, int node) {
+        var result = new ArrayList<String>();
+        for (int i = 0; i < document.childCount(node); i++) {
+            result.add(document.key(node, i));
+        }
+        return result;
+    }
+
+    private static SpecMappingNode read(String json) throws MalformedURLException {
+        return JsonMappingNode.read(new StringReader(json), "spec.json", new URL("file:/specs/spec.json"));
+    }
+}
@@ -0,0 +1,64 @@
+package org.openapifactory.api.parser.yaml;
+
+import org.junit.jupiter.api.Test;
+import org.openapifactory.api.parser.SpecMappingNode;
+
+import java.io.StringReader;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class YamlMappingNodeTest {
+
+    private static final String SPEC = """
+            info:
+              title: Test
+              version: 1.0
+              extra: value
+            paths:
+              /pets:
+                get:
+                  tags: [pets]
+            """;
+
+    @Test
+    void shouldReportUnusedKeysWithPathAndLine() throws MalformedURLException {
+        var info = read().mappingNode("info").required();
+        assertEquals("Test", info.string("title").required());
+        var exception = assertThrows(RuntimeException.class, info::checkUnused);
+        assertEquals("Unused keys [extra, version] in spec.yaml#/info file:/specs/spec.yaml:2", exception.getMessage());
+
+        info.string("version").required();
+        info.string("extra").required();
+        assertDoesNotThrow(info::checkUnused);
+    }
+
+    @Test
+    void shouldReportMissingKeysWithNestedPath() throws MalformedURLException {
+        var operation = read().mappingNode("paths").required()
+                .mappingNode("/pets").required()
+                .mappingNode("get").required();
+        assertEquals(List.of("pets"), operation.sequenceNode("tags").required().stringList());
+        var exception = assertThrows(RuntimeException.class, () -> operation.string("operationId").required());
+        assertEquals(
+                "missing required key [operationId] (keys: [tags]) at spec.yaml#/paths//pets/get file:/specs/spec.yaml:8",
+                exception.getMessage()
+        );
+    }
+
+    @Test
+    void shouldKeepKeysInDocumentOrder() throws MalformedURLException {
+        var root = read();
+        assertEquals(List.of("info", "paths"), List.copyOf(root.keySet()));
+        assertEquals(Set.of("title", "version", "extra"), root.mappingNode("info").required().keySet());
+    }
+
+    private static SpecMappingNode read() throws MalformedURLException {
+        return YamlMappingNode.read(new StringReader(SPEC), "spec.yaml", new URL("file:/specs/spec.yaml"));
+    }
+}
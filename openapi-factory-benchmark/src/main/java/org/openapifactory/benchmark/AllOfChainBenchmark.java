@@ -0,0 +1,110 @@
+package org.openapifactory.benchmark;
+
+import org.openapifactory.api.OpenapiSpecParser;
+import org.openapifactory.api.codegen.types.CodegenAllOfModel;
+import org.openapifactory.api.codegen.types.CodegenGenericModel;
+import org.openapifactory.api.codegen.types.CodegenModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading a spec where each model extends the previous one with <code>allOf</code> and also has a
+ * property referencing it, and asking every model for its read-only and write-only properties like the
+ * generators do. Without memoization the time doubles with each level.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class AllOfChainBenchmark {
+
+    @Param({"8", "16", "64"})
+    public int depth;
+
+    private Path specFile;
+
+    @Setup
+    public void setup() throws IOException {
+        specFile = Files.createTempFile("allOfChain", ".yaml");
+        Files.writeString(specFile, content(depth));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(specFile);
+    }
+
+    @Benchmark
+    public int readAndAnalyze() throws IOException {
+        var spec = new OpenapiSpecParser().createOpenApiSpec(specFile);
+        var result = 0;
+        for (CodegenModel model : spec.getModels()) {
+            if (model.hasReadOnlyProperties()) {
+                result++;
+            }
+            if (model.hasWriteOnlyProperties()) {
+                result++;
+            }
+            if (model instanceof CodegenAllOfModel allOf) {
+                result += allOf.getAllProperties().size();
+                result += allOf.getOmittedPropertiesForReadOnly().size();
+            } else if (model instanceof CodegenGenericModel generic) {
+                result += generic.getOmittedPropertiesForReadOnly().size();
+                result += generic.getOmittedPropertiesForWriteOnly().size();
+            }
+        }
+        return result;
+    }
+
+    static String content(int depth) {
+        var result = new StringBuilder("""
+                openapi: 3.0.2
+                info:
+                  title: AllOf chain
+                  version: 1.0.0
+                paths: {}
+                components:
+                  schemas:
+                    Level0:
+                      type: object
+                      required: [id]
+                      properties:
+                        id:
+                          type: string
+                          readOnly: true
+                        secret:
+                          type: string
+                          writeOnly: true
+                """);
+        for (int i = 1; i < depth; i++) {
+            result.append("""
+                        Level%1$d:
+                          allOf:
+                            - $ref: '#/components/schemas/Level%2$d'
+                            - properties:
+                                parent%1$d:
+                                  $ref: '#/components/schemas/Level%2$d'
+                                name%1$d:
+                                  type: string
+                    """.formatted(i, i - 1));
+        }
+        return result.toString();
+    }
+}
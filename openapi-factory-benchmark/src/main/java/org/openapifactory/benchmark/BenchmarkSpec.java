@@ -0,0 +1,77 @@
+package org.openapifactory.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+
+/**
+ * The spec under benchmark: either a file from <code>snapshotTests</code> or a synthetic spec
+ * named <code>synthetic-[schemas]x[paths]</code>
+ */
+@State(Scope.Benchmark)
+public class BenchmarkSpec {
+
+    public static final String SNAPSHOT_DIRECTORY_PROPERTY = "openapi.benchmark.snapshotTests";
+
+    @Param({
+            "petstore.json",
+            "infectionTracker.json",
+            "bigExample.yaml",
+            "poly.yaml",
+            "geojson.yaml",
+            "synthetic-1000x1000",
+            "synthetic-3000x3000"
+    })
+    public String spec;
+
+    private Path specFile;
+    private Path workDirectory;
+
+    @Setup
+    public void setup() throws IOException {
+        workDirectory = Files.createTempDirectory("openapi-benchmark");
+        if (spec.startsWith("synthetic-")) {
+            var size = spec.substring("synthetic-".length()).split("x");
+            specFile = new SyntheticSpec(Integer.parseInt(size[0]), Integer.parseInt(size[1]))
+                    .write(workDirectory.resolve("spec"));
+        } else {
+            specFile = getSnapshotDirectory().resolve(spec);
+            if (!Files.isRegularFile(specFile)) {
+                throw new IllegalArgumentException("Missing spec " + specFile.toAbsolutePath());
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (var walk = Files.walk(workDirectory)) {
+            walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    public Path getSpecFile() {
+        return specFile;
+    }
+
+    public Path getOutputDirectory() {
+        return workDirectory.resolve("output");
+    }
+
+    private static Path getSnapshotDirectory() {
+        var configured = System.getProperty(SNAPSHOT_DIRECTORY_PROPERTY);
+        if (configured != null) {
+            return Paths.get(configured);
+        }
+        var fromModule = Paths.get("../snapshotTests");
+        return Files.isDirectory(fromModule) ? fromModule : Paths.get("snapshotTests");
+    }
+}
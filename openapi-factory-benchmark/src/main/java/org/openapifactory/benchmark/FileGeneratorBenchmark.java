@@ -0,0 +1,66 @@
+package org.openapifactory.benchmark;
+
+import org.openapifactory.api.FileGenerator;
+import org.openapifactory.typescript.OpenapiTypescriptFactory;
+import org.openapifactory.typescript.OpenapiTypescriptSpecParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each TypeScript {@link FileGenerator} separately on an already parsed spec
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class FileGeneratorBenchmark {
+
+    @Param({
+            "ReadmeFile",
+            "PackageJsonFile",
+            "TsconfigJsonFile",
+            "BaseTsFile",
+            "IndexTsFile",
+            "ApiTsFile",
+            "ModelTsFile",
+            "ApiTestTsFile",
+            "ModelTestTsFile"
+    })
+    public String generator;
+
+    private FileGenerator fileGenerator;
+    private Path outputRoot;
+
+    @Setup
+    public void setup(BenchmarkSpec spec) throws IOException {
+        var openapiSpec = new OpenapiTypescriptSpecParser().createOpenApiSpec(spec.getSpecFile());
+        openapiSpec.setName("benchmark");
+        fileGenerator = OpenapiTypescriptFactory.createFileGenerators(openapiSpec).stream()
+                .filter(g -> g.getClass().getSimpleName().equals(generator))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown generator " + generator));
+        outputRoot = spec.getOutputDirectory();
+        Files.createDirectories(outputRoot);
+    }
+
+    @Benchmark
+    public void generate() throws IOException {
+        fileGenerator.generate(outputRoot);
+    }
+}
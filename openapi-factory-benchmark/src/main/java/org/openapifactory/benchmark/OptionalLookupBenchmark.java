@@ -0,0 +1,76 @@
+package org.openapifactory.benchmark;
+
+import org.openapifactory.api.parser.SpecMappingNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures looking up optional keys that are mostly absent, like the parser does for every schema and property.
+ * Run with <code>-p spec=petstore.json</code> and compare <code>gc.alloc.rate.norm</code>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class OptionalLookupBenchmark {
+
+    private static final List<String> OPTIONAL_KEYS = List.of(
+            "description", "title", "readOnly", "writeOnly", "nullable", "deprecated"
+    );
+
+    @State(Scope.Benchmark)
+    public static class SchemaNodes {
+        private final List<SpecMappingNode> nodes = new ArrayList<>();
+
+        @Setup
+        public void setup(BenchmarkSpec spec) throws IOException {
+            var root = SpecMappingNode.read(spec.getSpecFile().toUri().toURL(), "");
+            var schemas = root.mappingNode("components").required().mappingNode("schemas").required();
+            for (var schemaName : schemas.keySet()) {
+                var schema = schemas.mappingNode(schemaName).required();
+                nodes.add(schema);
+                var properties = schema.mappingNode("properties");
+                if (properties.isPresent()) {
+                    for (var propertyName : properties.required().keySet()) {
+                        if (properties.required().isObject(propertyName)) {
+                            nodes.add(properties.required().mappingNode(propertyName).required());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public int lookupOptionalKeys(SchemaNodes schemaNodes) {
+        var present = 0;
+        for (var node : schemaNodes.nodes) {
+            for (var key : OPTIONAL_KEYS) {
+                if (node.string(key).isPresent()) {
+                    present++;
+                }
+            }
+            if (node.mappingNode("xml").isPresent()) {
+                present++;
+            }
+            if (node.getBoolean("readOnly").orElse(false)) {
+                present++;
+            }
+        }
+        return present;
+    }
+}
@@ -0,0 +1,39 @@
+package org.openapifactory.benchmark;
+
+import org.openapifactory.api.codegen.OpenapiSpec;
+import org.openapifactory.typescript.OpenapiTypescriptSpecParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading the spec file and building the {@link OpenapiSpec} model, including external references,
+ * with the models created one by one and in parallel
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class SpecParserBenchmark {
+
+    @Benchmark
+    public OpenapiSpec createOpenApiSpec(BenchmarkSpec spec) throws IOException {
+        return new OpenapiTypescriptSpecParser().createOpenApiSpec(spec.getSpecFile());
+    }
+
+    @Benchmark
+    public OpenapiSpec createOpenApiSpecInParallel(BenchmarkSpec spec) throws IOException {
+        var parser = new OpenapiTypescriptSpecParser();
+        parser.setPool(ForkJoinPool.commonPool());
+        return parser.createOpenApiSpec(spec.getSpecFile());
+    }
+}
@@ -0,0 +1,29 @@
+package org.openapifactory.benchmark;
+
+import org.openapifactory.api.parser.SpecMappingNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading the spec file into a {@link SpecMappingNode} tree, without building the model
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class SpecReadBenchmark {
+
+    @Benchmark
+    public SpecMappingNode read(BenchmarkSpec spec) throws IOException {
+        return SpecMappingNode.read(spec.getSpecFile().toUri().toURL(), "");
+    }
+}
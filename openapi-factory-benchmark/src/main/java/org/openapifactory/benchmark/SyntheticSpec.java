@@ -0,0 +1,180 @@
+package org.openapifactory.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes a generated OpenAPI spec with a configurable number of schemas and paths,
+ * used to measure how parsing and generation scale beyond the snapshot specs.
+ */
+public class SyntheticSpec {
+    private final int schemaCount;
+    private final int pathCount;
+
+    public SyntheticSpec(int schemaCount, int pathCount) {
+        if (schemaCount < 2) {
+            throw new IllegalArgumentException("Synthetic spec needs at least two schemas, was " + schemaCount);
+        }
+        this.schemaCount = schemaCount;
+        this.pathCount = pathCount;
+    }
+
+    public Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        var file = directory.resolve("synthetic-" + schemaCount + "-" + pathCount + ".yaml");
+        Files.writeString(file, content());
+        return file;
+    }
+
+    public String content() {
+        var result = new StringBuilder();
+        result.append("""
+                openapi: 3.0.2
+                info:
+                  title: Synthetic API
+                  description: Generated spec with %d schemas and %d paths
+                  version: 1.0.0
+                servers:
+                  - url: /api
+                    description: Server
+                paths:
+                """.formatted(schemaCount, pathCount));
+        for (int i = 0; i < pathCount; i++) {
+            appendPath(result, i);
+        }
+        result.append("components:\n");
+        result.append("  schemas:\n");
+        for (int i = 0; i < schemaCount; i++) {
+            appendSchema(result, i);
+        }
+        return result.toString();
+    }
+
+    private void appendPath(StringBuilder result, int i) {
+        var model = modelName(genericModelAtOrBefore(1 + i % (schemaCount - 1)));
+        result.append("""
+                  /resources%1$d/{id}:
+                    get:
+                      operationId: getResource%1$d
+                      tags: [Tag%2$d]
+                      parameters:
+                        - name: id
+                          in: path
+                          required: true
+                          schema:
+                            type: string
+                            format: uuid
+                        - name: since
+                          in: query
+                          schema:
+                            type: string
+                            format: date
+                      responses:
+                        '200':
+                          description: Successful
+                          content:
+                            application/json:
+                              schema:
+                                $ref: '#/components/schemas/%3$s'
+                    put:
+                      operationId: updateResource%1$d
+                      tags: [Tag%2$d]
+                      parameters:
+                        - name: id
+                          in: path
+                          required: true
+                          schema:
+                            type: string
+                            format: uuid
+                      requestBody:
+                        required: true
+                        content:
+                          application/json:
+                            schema:
+                              $ref: '#/components/schemas/%3$s'
+                      responses:
+                        '204':
+                          description: Updated
+                """.formatted(i, i % 20, model));
+    }
+
+    private void appendSchema(StringBuilder result, int i) {
+        if (isEnum(i)) {
+            result.append("""
+                        %s:
+                          type: string
+                          enum: [active, inactive, pending, archived]
+                    """.formatted(modelName(i)));
+        } else if (isAllOf(i)) {
+            result.append("""
+                        %s:
+                          allOf:
+                            - $ref: '#/components/schemas/%s'
+                            - properties:
+                                extra%d:
+                                  type: string
+                                score:
+                                  type: number
+                    """.formatted(modelName(i), modelName(genericModelAtOrBefore(i)), i));
+        } else {
+            result.append("""
+                        %s:
+                          type: object
+                          required: [id, name]
+                          properties:
+                            id:
+                              type: string
+                              format: uuid
+                              readOnly: true
+                            name:
+                              type: string
+                            count:
+                              type: integer
+                            createdAt:
+                              type: string
+                              format: date-time
+                            tags:
+                              type: array
+                              items:
+                                type: string
+                            kind:
+                              type: string
+                              enum: [small, medium, large]
+                    """.formatted(modelName(i)));
+            if (genericModelAtOrBefore(i - 1) >= 0) {
+                result.append("""
+                                parent:
+                                  $ref: '#/components/schemas/%s'
+                        """.formatted(modelName(genericModelAtOrBefore(i - 1))));
+            }
+            if (isEnum(i - 1)) {
+                result.append("""
+                                status:
+                                  $ref: '#/components/schemas/%s'
+                        """.formatted(modelName(i - 1)));
+            }
+        }
+    }
+
+    private int genericModelAtOrBefore(int index) {
+        for (int i = index; i >= 0; i--) {
+            if (!isEnum(i) && !isAllOf(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isEnum(int i) {
+        return i % 10 == 0;
+    }
+
+    private static boolean isAllOf(int i) {
+        return i % 7 == 0;
+    }
+
+    private static String modelName(int i) {
+        return (isEnum(i) ? "Status" : "Model") + i;
+    }
+}
@@ -0,0 +1,61 @@
+package org.openapifactory.benchmark;
+
+import org.openapifactory.api.FileGenerator;
+import org.openapifactory.typescript.OpenapiTypescriptFactory;
+import org.openapifactory.typescript.OpenapiTypescriptSpecParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures running all the TypeScript {@link FileGenerator}s on a newly parsed spec, like one generation run,
+ * so that anything the generators cache for a spec starts out empty. Parsing is not included.
+ * Compare a small and a large spec with <code>-p spec=petstore.json,synthetic-1000x1000</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class TypescriptGenerationBenchmark {
+
+    private BenchmarkSpec spec;
+    private List<FileGenerator> fileGenerators;
+    private Path outputRoot;
+
+    @Setup
+    public void setup(BenchmarkSpec spec) throws IOException {
+        this.spec = spec;
+        outputRoot = spec.getOutputDirectory();
+        Files.createDirectories(outputRoot);
+    }
+
+    @Setup(Level.Invocation)
+    public void parseSpec() throws IOException {
+        var openapiSpec = new OpenapiTypescriptSpecParser().createOpenApiSpec(spec.getSpecFile());
+        openapiSpec.setName("benchmark");
+        fileGenerators = OpenapiTypescriptFactory.createFileGenerators(openapiSpec);
+    }
+
+    @Benchmark
+    public void generateAll() throws IOException {
+        for (var fileGenerator : fileGenerators) {
+            fileGenerator.generate(outputRoot);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import difflib.Delta;
 import difflib.DiffUtils;
 import difflib.InsertDelta;
 import org.junit.jupiter.api.DynamicNode;
+import org.openapifactory.api.GenerationCache;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -69,7 +70,9 @@ public class DiffNode {
 
     private boolean isIgnored(Path path) {
         var ignoredFiles = Set.of("node_modules", "package-lock.json", "dist", ".gitignore", "git_push.sh");
-        return ignoredFiles.contains(path.toString()) || path.toString().startsWith(".openapi-generator");
+        return ignoredFiles.contains(path.toString())
+               || path.toString().startsWith(".openapi-generator")
+               || path.startsWith(GenerationCache.CACHE_DIRECTORY);
     }
 
     private boolean isTextOutput(Path path) {
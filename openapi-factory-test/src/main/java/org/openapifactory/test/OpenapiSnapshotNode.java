@@ -1,7 +1,10 @@
 package org.openapifactory.test;
 
 import org.junit.jupiter.api.DynamicNode;
+import org.openapifactory.api.GenerationCache;
 import org.openapifactory.api.OpenapiFactory;
+import org.openapifactory.api.parser.HttpSpecCache;
+import org.openapifactory.api.parser.SpecFileCache;
 
 import java.io.File;
 import java.io.IOException;
@@ -18,12 +21,20 @@ public class OpenapiSnapshotNode {
     private final OpenapiFactory factory;
     private final Path snapshotDir;
     private final Path outputDir;
+    private final SpecFileCache specFiles;
 
+    /**
+     * Remote specs in <code>.link</code> files are read from copies committed next to the spec, in
+     * <code>.openapi-factory/remote</code>, without network access. The tests never write to this directory.
+     * To refresh the copies, read the links with an online {@link HttpSpecCache} for the same directory.
+     */
     public OpenapiSnapshotNode(Path spec, OpenapiFactory factory, Path snapshotRoot, Path outputRoot) {
         this.spec = spec;
         this.factory = factory;
         snapshotDir = snapshotRoot.resolve(getModelName());
         outputDir = outputRoot.resolve(getModelName());
+        var remoteSpecs = spec.toAbsolutePath().getParent().resolve(GenerationCache.CACHE_DIRECTORY).resolve("remote");
+        specFiles = new SpecFileCache(new HttpSpecCache(remoteSpecs, true));
     }
 
     public static DynamicNode create(Path specRoot, OpenapiFactory factory, Path rootDir) throws IOException {
@@ -48,7 +59,7 @@ public class OpenapiSnapshotNode {
     private DynamicNode createTests() {
         try {
             cleanDirectory(getOutputDir());
-            factory.generate(spec, getOutputDir());
+            factory.generate(spec, getOutputDir(), specFiles);
         } catch (Exception e) {
             if (e.getCause() != null) {
                 return dynamicTest("Generator for " + spec, () -> {
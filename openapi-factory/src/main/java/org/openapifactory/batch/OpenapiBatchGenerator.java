@@ -0,0 +1,69 @@
+package org.openapifactory.batch;
+
+import org.openapifactory.api.GeneratorOutput;
+import org.openapifactory.api.OpenapiFactory;
+import org.openapifactory.api.parser.SpecFileCache;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Generates output for many specs in one process. The specs are parsed and generated concurrently,
+ * externally referenced files are only parsed once per batch, and a failing spec doesn't stop the others.
+ */
+public class OpenapiBatchGenerator {
+
+    public record Job(Path spec, Path outputRoot) {
+    }
+
+    public record Result(Job job, Duration duration, GeneratorOutput output, Exception failure) {
+        public boolean isSuccess() {
+            return failure == null;
+        }
+
+        @Override
+        public String toString() {
+            var outcome = isSuccess() ? output.getChangedFiles().size() + " files changed" : "failed (" + failure + ")";
+            return job.spec() + ": " + outcome + " in " + duration.toMillis() + "ms";
+        }
+    }
+
+    private final OpenapiFactory factory;
+    private final Executor executor;
+
+    public OpenapiBatchGenerator(OpenapiFactory factory, Executor executor) {
+        this.factory = factory;
+        this.executor = executor;
+    }
+
+    /**
+     * @return one result per job, in the same order as the jobs
+     */
+    public List<Result> generate(List<Job> jobs) {
+        return generate(jobs, new SpecFileCache());
+    }
+
+    /**
+     * @param specFiles externally referenced files that are already parsed, for example from a previous batch
+     * @return one result per job, in the same order as the jobs
+     */
+    public List<Result> generate(List<Job> jobs, SpecFileCache specFiles) {
+        var results = jobs.stream()
+                .map(job -> CompletableFuture.supplyAsync(() -> generate(job, specFiles), executor))
+                .toList();
+        return results.stream().map(CompletableFuture::join).toList();
+    }
+
+    private Result generate(Job job, SpecFileCache specFiles) {
+        var start = System.nanoTime();
+        try {
+            var output = factory.generate(job.spec(), job.outputRoot(), specFiles);
+            return new Result(job, Duration.ofNanos(System.nanoTime() - start), output, null);
+        } catch (Exception e) {
+            return new Result(job, Duration.ofNanos(System.nanoTime() - start), null, e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package org.openapifactory.watch;
+
+import org.openapifactory.api.parser.SpecFileCache;
+import org.openapifactory.batch.OpenapiBatchGenerator;
+import org.openapifactory.batch.OpenapiBatchGenerator.Job;
+import org.openapifactory.batch.OpenapiBatchGenerator.Result;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Generates a set of specs and keeps running, regenerating the specs whose files change.
+ * Parsed spec files, both the root specs and the files they reference, are kept between runs,
+ * so only changed files are parsed again, and
+ * only the specs that use a changed file, directly or through a reference, are regenerated.
+ */
+public class OpenapiWatcher implements Closeable {
+
+    private final OpenapiBatchGenerator generator;
+    private final List<Job> jobs;
+    private final Duration debounce;
+    private final Consumer<List<Result>> listener;
+    private final WatchService watchService;
+    private final SpecFileCache specFiles;
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+    private final Map<Path, URL> inputFiles = new HashMap<>();
+    private final Map<Path, Set<Job>> dependentJobs = new HashMap<>();
+
+    /**
+     * @param debounce how long to wait for more changes after a change before regenerating
+     * @param listener is called with the results of the initial generation and of each regeneration
+     */
+    public OpenapiWatcher(OpenapiBatchGenerator generator, List<Job> jobs, Duration debounce, Consumer<List<Result>> listener) throws IOException {
+        this(generator, jobs, debounce, listener, new SpecFileCache());
+    }
+
+    /**
+     * @param specFiles where external files are read and kept between runs, for example with an
+     *                  {@link org.openapifactory.api.parser.HttpSpecCache} for remote files
+     */
+    public OpenapiWatcher(OpenapiBatchGenerator generator, List<Job> jobs, Duration debounce, Consumer<List<Result>> listener, SpecFileCache specFiles) throws IOException {
+        this.generator = generator;
+        this.specFiles = specFiles;
+        this.jobs = jobs;
+        this.debounce = debounce;
+        this.listener = listener;
+        this.watchService = FileSystems.getDefault().newWatchService();
+    }
+
+    /**
+     * Generates all specs, then regenerates the affected specs on every change until {@link #close()} is called
+     */
+    public void run() throws IOException {
+        regenerate(jobs);
+        try {
+            while (true) {
+                var changedFiles = new HashSet<Path>();
+                var key = watchService.take();
+                do {
+                    collectChanges(key, changedFiles);
+                } while ((key = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS)) != null);
+
+                var affectedJobs = jobs.stream()
+                        .filter(job -> changedFiles.stream().anyMatch(f -> dependentJobs.getOrDefault(f, Set.of()).contains(job)))
+                        .toList();
+                if (!affectedJobs.isEmpty()) {
+                    regenerate(affectedJobs);
+                }
+            }
+        } catch (ClosedWatchServiceException ignored) {
+            // close() was called
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void collectChanges(WatchKey key, Set<Path> changedFiles) {
+        var directory = watchedDirectories.get(key);
+        for (var event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                changedFiles.addAll(dependentJobs.keySet());
+            } else if (directory != null) {
+                changedFiles.add(directory.resolve((Path) event.context()));
+            }
+        }
+        key.reset();
+        for (var changedFile : changedFiles) {
+            var url = inputFiles.get(changedFile);
+            if (url != null) {
+                specFiles.invalidate(url);
+            }
+        }
+    }
+
+    private void regenerate(List<Job> affectedJobs) throws IOException {
+        var results = generator.generate(affectedJobs, specFiles);
+        for (var result : results) {
+            var job = result.job();
+            if (result.isSuccess()) {
+                dependentJobs.values().forEach(dependents -> dependents.remove(job));
+            }
+            // A failed spec is watched, so it is regenerated when fixed
+            watch(job, job.spec().toAbsolutePath().normalize(), job.spec().toUri().toURL());
+            if (result.isSuccess()) {
+                for (var inputFile : result.output().getInputFiles()) {
+                    if (inputFile.getProtocol().equals("file")) {
+                        watch(job, toPath(inputFile), inputFile);
+                    }
+                }
+            }
+        }
+        listener.accept(results);
+    }
+
+    private void watch(Job job, Path file, URL url) throws IOException {
+        dependentJobs.computeIfAbsent(file, f -> new HashSet<>()).add(job);
+        if (url != null) {
+            inputFiles.put(file, url);
+        }
+        var directory = file.getParent();
+        if (!watchedDirectories.containsValue(directory) && Files.isDirectory(directory)) {
+            watchedDirectories.put(directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY), directory);
+        }
+    }
+
+    private static Path toPath(URL url) {
+        try {
+            return Path.of(url.toURI()).toAbsolutePath().normalize();
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid file url " + url, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
@@ -0,0 +1,40 @@
+package org.openapifactory.batch;
+
+import org.junit.jupiter.api.Test;
+import org.openapifactory.typescript.OpenapiTypescriptFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenapiBatchGeneratorTest {
+
+    private final Path specRoot = Path.of("../snapshotTests");
+    private final Path outputRoot = Path.of("target/batch");
+
+    @Test
+    void shouldGenerateAllSpecsAndReportFailures() {
+        var jobs = List.of(
+                new OpenapiBatchGenerator.Job(specRoot.resolve("geojson.yaml"), outputRoot.resolve("geojson")),
+                new OpenapiBatchGenerator.Job(specRoot.resolve("missing.yaml"), outputRoot.resolve("missing")),
+                new OpenapiBatchGenerator.Job(specRoot.resolve("petstore.json"), outputRoot.resolve("petstore"))
+        );
+        List<OpenapiBatchGenerator.Result> results;
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results = new OpenapiBatchGenerator(new OpenapiTypescriptFactory(), executor).generate(jobs);
+        }
+
+        assertEquals(jobs, results.stream().map(OpenapiBatchGenerator.Result::job).toList());
+        assertTrue(results.get(0).isSuccess(), results.get(0).toString());
+        assertInstanceOf(IOException.class, results.get(1).failure());
+        assertTrue(results.get(2).isSuccess(), results.get(2).toString());
+        assertTrue(Files.isRegularFile(outputRoot.resolve("geojson/model.ts")));
+        assertTrue(Files.isRegularFile(outputRoot.resolve("petstore/api.ts")));
+    }
+}
@@ -0,0 +1,70 @@
+package org.openapifactory.watch;
+
+import org.junit.jupiter.api.Test;
+import org.openapifactory.batch.OpenapiBatchGenerator;
+import org.openapifactory.typescript.OpenapiTypescriptFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenapiWatcherTest {
+
+    private final Path specRoot = Path.of("../snapshotTests");
+    private final Path watchRoot = Path.of("target/watch");
+
+    @Test
+    void shouldRegenerateSpecsUsingChangedReferencedFile() throws Exception {
+        var specDir = watchRoot.resolve("specs");
+        Files.createDirectories(specDir.resolve("schemas"));
+        for (var file : List.of("geojson.yaml", "schemas/geojson.yaml", "petstore.json")) {
+            Files.copy(specRoot.resolve(file), specDir.resolve(file), REPLACE_EXISTING);
+        }
+        var geojson = new OpenapiBatchGenerator.Job(specDir.resolve("geojson.yaml"), watchRoot.resolve("output/geojson"));
+        var petstore = new OpenapiBatchGenerator.Job(specDir.resolve("petstore.json"), watchRoot.resolve("output/petstore"));
+
+        BlockingQueue<List<OpenapiBatchGenerator.Result>> results = new LinkedBlockingQueue<>();
+        try (
+                var executor = Executors.newVirtualThreadPerTaskExecutor();
+                var watcher = new OpenapiWatcher(
+                        new OpenapiBatchGenerator(new OpenapiTypescriptFactory(), executor),
+                        List.of(geojson, petstore), Duration.ofMillis(50), results::add
+                )
+        ) {
+            var watchThread = Thread.ofVirtual().start(() -> {
+                try {
+                    watcher.run();
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            var initial = results.poll(30, TimeUnit.SECONDS);
+            assertNotNull(initial, "initial generation");
+            assertEquals(List.of(geojson, petstore), initial.stream().map(OpenapiBatchGenerator.Result::job).toList());
+
+            Files.writeString(specDir.resolve("schemas/geojson.yaml"), "\n# changed\n", StandardOpenOption.APPEND);
+            var regenerated = results.poll(10, TimeUnit.SECONDS);
+            assertNotNull(regenerated, "regeneration after change");
+            assertEquals(List.of(geojson), regenerated.stream().map(OpenapiBatchGenerator.Result::job).toList());
+            assertTrue(regenerated.get(0).isSuccess(), regenerated.get(0).toString());
+
+            watcher.close();
+            watchThread.join(Duration.ofSeconds(10));
+            assertFalse(watchThread.isAlive(), "watcher should stop when closed");
+        }
+    }
+}
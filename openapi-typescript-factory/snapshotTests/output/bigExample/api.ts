@@ -0,0 +1,147 @@
+/* eslint @typescript-eslint/no-unused-vars: off */
+/**
+ * Sample API
+ * A small example to demonstrate individual problems
+ *
+ * The version of the OpenAPI document: 0.1.9
+ *
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import {
+    PetDto,
+    PetLocationsDto,
+    PetStoreDto,
+} from "./model";
+
+import { BaseAPI, RequestCallOptions, SecurityScheme } from "./base";
+
+export interface ApplicationApis {
+    defaultApi: DefaultApiInterface;
+}
+
+/**
+ * DefaultApi - object-oriented interface
+ */
+export interface DefaultApiInterface {
+    /**
+     *
+     * @param {*} [params] Request parameters, including pathParams, queryParams (including bodyParams) and http options.
+     * @throws {HttpError}
+     */
+    addPet(params: {
+        pathParams: { storeId: string };
+        petDto?: PetDto;
+    } & RequestCallOptions): Promise<void>;
+    /**
+     *
+     * @param {*} [params] Request parameters, including pathParams, queryParams (including bodyParams) and http options.
+     * @throws {HttpError}
+     */
+    addPetWithForm(params: {
+        pathParams: { petId: string };
+        formParams: { name?: string; status?: string };
+    } & RequestCallOptions): Promise<void>;
+    /**
+     *
+     * @throws {HttpError}
+     */
+    getPetLocations(params?: RequestCallOptions): Promise<PetLocationsDto>;
+    /**
+     *
+     * @param {*} [params] Request parameters, including pathParams, queryParams (including bodyParams) and http options.
+     * @throws {HttpError}
+     */
+    listPets(params: {
+        pathParams: { storeId: string };
+        queryParams?: { status?: Array<string>; tags?: Array<string>; bornAfter?: Date };
+    } & RequestCallOptions): Promise<PetDto>;
+}
+
+/**
+ * DefaultApi - object-oriented interface
+ */
+export class DefaultApi extends BaseAPI implements DefaultApiInterface {
+    /**
+     *
+     * @param {*} [params] Request parameters, including pathParams, queryParams (including bodyParams) and http options.
+     * @throws {HttpError}
+     */
+    public async addPet(params: {
+        pathParams: { storeId: string };
+        petDto?: PetDto;
+    } & RequestCallOptions): Promise<void> {
+        return await this.fetch(
+            this.url("/{storeId}/pets", params.pathParams),
+            {
+                ...params,
+                method: "POST",
+                body: JSON.stringify(params.petDto),
+                headers: {
+                    ...this.removeEmpty(params.headers),
+                    "Content-Type": "application/json",
+                },
+            }
+        );
+    }
+    /**
+     *
+     * @param {*} [params] Request parameters, including pathParams, queryParams (including bodyParams) and http options.
+     * @throws {HttpError}
+     */
+    public async addPetWithForm(params: {
+        pathParams: { petId: string };
+        formParams: { name?: string; status?: string };
+    } & RequestCallOptions): Promise<void> {
+        return await this.fetch(
+            this.url("/pets/{petId}", params.pathParams),
+            {
+                ...params,
+                method: "POST",
+                body: this.formData(params.formParams),
+                headers: {
+                    ...this.removeEmpty(params.headers),
+                    "Content-Type": "application/x-www-form-urlencoded",
+                },
+            }
+        );
+    }
+    /**
+     *
+     * @throws {HttpError}
+     */
+    public async getPetLocations(params: RequestCallOptions = {}): Promise<PetLocationsDto> {
+        return await this.fetch(
+            this.basePath + "/pet/locations", params
+        );
+    }
+    /**
+     *
+     * @param {*} [params] Request parameters, including pathParams, queryParams (including bodyParams) and http options.
+     * @throws {HttpError}
+     */
+    public async listPets(params: {
+        pathParams: { storeId: string };
+        queryParams?: { status?: Array<string>; tags?: Array<string>; bornAfter?: Date };
+    } & RequestCallOptions): Promise<PetDto> {
+        return await this.fetch(
+            this.url("/{storeId}/pets", params.pathParams, params?.queryParams, {
+                status: { delimiter: " " },
+                bornAfter: { format: "date" },
+            }), params
+        );
+    }
+}
+
+type ServerNames =
+    | "Server";
+
+export const servers: Record<ServerNames, ApplicationApis> = {
+    "Server": {
+        defaultApi: new DefaultApi("/v1"),
+    },
+};
+
@@ -0,0 +1,3 @@
+
+export * from "./api";
+export * from "./model";
\ No newline at end of file
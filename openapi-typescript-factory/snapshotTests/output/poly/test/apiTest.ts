@@ -0,0 +1,51 @@
+/* eslint @typescript-eslint/no-unused-vars: off */
+/**
+ * Poly API
+ * An example of a polymorphic API
+ *
+ * The version of the OpenAPI document: 0.1.0
+ * Contact: johannes@brodwall.com
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import {
+    AnyPartyDto,
+    CreationErrorDto,
+    DuplicateIdentifierErrorDto,
+    GeneralErrorDto,
+    IllegalEmailAddressErrorDto,
+    LogMessageDto,
+    NotFoundErrorDto,
+    OrganizationDto,
+    PersonDto,
+    UpdateErrorDto,
+} from "../model";
+
+import {
+    ApplicationApis,
+    DefaultApiInterface,
+} from "../api";
+
+function reject(operation: string) {
+    return () => Promise.reject(new Error("Unexpected function call " + operation));
+}
+
+export function mockApplicationApis({
+    defaultApi = mockDefaultApi(),
+}: Partial<ApplicationApis> = {}): ApplicationApis {
+    return { defaultApi };
+}
+
+export function mockDefaultApi(
+    operations: Partial<DefaultApiInterface> = {}
+): DefaultApiInterface {
+    return {
+        logMessage: operations.logMessage || reject("DefaultApi.logMessage"),
+        partiesGet: operations.partiesGet || reject("DefaultApi.partiesGet"),
+        partiesIdPut: operations.partiesIdPut || reject("DefaultApi.partiesIdPut"),
+        partiesPost: operations.partiesPost || reject("DefaultApi.partiesPost"),
+    };
+}
@@ -0,0 +1,98 @@
+/**
+ * WebSockets
+ * An example of sending requests and commands
+ *
+ * The version of the OpenAPI document: 0.1.0
+ * Contact: johannes@brodwall.com
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+export interface ChangeTrackedDto {
+    createdAt: Date;
+    createdBy: string;
+    updatedAt?: Date;
+    updatedBy?: string;
+}
+
+export interface CreatePersonCommandDto {
+    command: "createPerson";
+    id: string;
+    person: PersonDto;
+}
+
+export interface PersonDto extends RecipientDto {
+    id?: string;
+    type?: string;
+    name?: PersonNameDto;
+    phone?: string;
+    birthDate?: Date;
+    gender?: PersonDtoGenderEnum;
+}
+
+export const PersonDtoGenderEnumValues = [
+    "male",
+    "female",
+    "other",
+    "unspecified",
+] as const;
+
+export type PersonDtoGenderEnum = typeof PersonDtoGenderEnumValues[number];
+
+export interface PersonNameDto {
+    givenName?: string;
+    familyName?: string;
+}
+
+export type PersonSnapshotDto = ChangeTrackedDto & PersonDto & {
+    type: string;
+    name: PersonNameDto;
+    extra?: string;
+};
+
+export interface RecipientDto {
+    email?: string;
+}
+
+export interface StringSnapshotDto extends ChangeTrackedDto {
+    name?: string;
+    type?: string;
+}
+
+export interface SubscribeDto {
+    request: "Subscribe";
+}
+
+export interface UnsubscribeDto {
+    request: "Unsubscribe";
+}
+
+export interface UpdatePersonCommandDto {
+    command: "updatePerson";
+    id: string;
+    person: PersonDto;
+}
+
+export type WebSocketCommandDto =
+    { command: "createPerson" } & CreatePersonCommandDto |
+    { command: "updatePerson" } & UpdatePersonCommandDto;
+
+export const WebSocketCommandDtoDiscriminators = [
+    "createPerson",
+    "updatePerson",
+] as const;
+
+export type WebSocketCommandDtoDiscriminator = typeof WebSocketCommandDtoDiscriminators[number];
+
+export type WebSocketMessageDto = WebSocketCommandDto | WebSocketRequestDto;
+
+export type WebSocketRequestDto =
+    { request: "Subscribe" } & SubscribeDto;
+
+export const WebSocketRequestDtoDiscriminators = [
+    "Subscribe",
+] as const;
+
+export type WebSocketRequestDtoDiscriminator = typeof WebSocketRequestDtoDiscriminators[number];
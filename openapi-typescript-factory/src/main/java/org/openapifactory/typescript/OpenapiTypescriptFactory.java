@@ -1,8 +1,11 @@
 package org.openapifactory.typescript;
 
 import org.openapifactory.api.FileGenerator;
+import org.openapifactory.api.GeneratorOutput;
 import org.openapifactory.api.OpenapiFactory;
+import org.openapifactory.api.OpenapiGeneratorRegistry;
 import org.openapifactory.api.codegen.OpenapiSpec;
+import org.openapifactory.api.parser.SpecFileCache;
 import org.openapifactory.typescript.files.ApiTsFile;
 import org.openapifactory.typescript.files.BaseTsFile;
 import org.openapifactory.typescript.files.IndexTsFile;
@@ -14,30 +17,44 @@ import org.openapifactory.typescript.files.ReadmeFile;
 import org.openapifactory.typescript.files.TsconfigJsonFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 public class OpenapiTypescriptFactory implements OpenapiFactory {
 
-    private final OpenapiTypescriptSpecParser parser;
+    private final OpenapiGeneratorRegistry generators;
 
     public OpenapiTypescriptFactory() {
-        parser = new OpenapiTypescriptSpecParser();
+        this(null);
     }
 
-    @Override
-    public void generate(Path specPath, Path outputRoot) throws IOException {
-        Files.createDirectories(outputRoot);
+    /**
+     * @param executor if not null, the files are rendered and written concurrently on this executor.
+     *                 The spec is fully parsed before any generator starts and is only read while rendering.
+     */
+    public OpenapiTypescriptFactory(Executor executor) {
+        this(executor, false);
+    }
 
-        var spec = parser.createOpenApiSpec(specPath);
-        spec.setName(removeExtension(specPath.getFileName()));
+    /**
+     * @param useGenerationCache skip generation when the spec, the files it references, the generator
+     *                           and the generated files are unchanged since the last run into the same
+     *                           output directory. This keeps a {@link org.openapifactory.api.GenerationCache}
+     *                           and a {@link org.openapifactory.api.SpecSnapshot} in the output directory
+     */
+    public OpenapiTypescriptFactory(Executor executor, boolean useGenerationCache) {
+        generators = new OpenapiGeneratorRegistry(List.of(new TypescriptGenerator()), new OpenapiTypescriptSpecParser(), executor, useGenerationCache);
+    }
 
-        generateFiles(outputRoot, spec);
+    @Override
+    public GeneratorOutput generate(Path specPath, Path outputRoot, SpecFileCache specFiles) throws IOException {
+        return generators.generate(specPath, Map.of(TypescriptGenerator.NAME, outputRoot), specFiles).get(TypescriptGenerator.NAME);
     }
 
-    private static void generateFiles(Path outputRoot, OpenapiSpec spec) throws IOException {
-        List<FileGenerator> files = List.of(
+    public static List<FileGenerator> createFileGenerators(OpenapiSpec spec) {
+        return List.of(
                 new ReadmeFile(spec),
                 new PackageJsonFile(spec),
                 new TsconfigJsonFile(),
@@ -48,15 +65,6 @@ public class OpenapiTypescriptFactory implements OpenapiFactory {
                 new ApiTestTsFile(spec),
                 new ModelTestTsFile(spec)
         );
-        for (var file : files) {
-            file.generate(outputRoot);
-        }
     }
 
-    private String removeExtension(Path fileName) {
-        var pos = fileName.toString().lastIndexOf(".");
-        return fileName.toString().substring(0, pos);
-    }
-
-
 }
@@ -0,0 +1,25 @@
+package org.openapifactory.typescript;
+
+import org.openapifactory.api.FileGenerator;
+import org.openapifactory.api.OpenapiGenerator;
+import org.openapifactory.api.codegen.OpenapiSpec;
+
+import java.util.List;
+
+/**
+ * The TypeScript client with its models, together with test data factories for the models and a test stub of the APIs
+ */
+public class TypescriptGenerator implements OpenapiGenerator {
+
+    public static final String NAME = "typescript";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public List<FileGenerator> createFileGenerators(OpenapiSpec spec) {
+        return OpenapiTypescriptFactory.createFileGenerators(spec);
+    }
+}
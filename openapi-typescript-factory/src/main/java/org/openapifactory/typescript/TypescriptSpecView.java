@@ -0,0 +1,58 @@
+package org.openapifactory.typescript;
+
+import org.openapifactory.api.codegen.OpenapiSpec;
+import org.openapifactory.api.codegen.types.CodegenModel;
+import org.openapifactory.api.codegen.types.CodegenSchema;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * The models of a spec as the TypeScript generators list them, sorted by their TypeScript type names.
+ * For a sealed spec this is computed once and shared by all the generators.
+ */
+public class TypescriptSpecView {
+    private final List<CodegenModel> modelsByTypeName;
+    private final List<String> modelTypeImports;
+
+    public static TypescriptSpecView of(OpenapiSpec spec) {
+        return spec.getDerivedView(TypescriptSpecView.class, TypescriptSpecView::new);
+    }
+
+    private TypescriptSpecView(OpenapiSpec spec) {
+        var typeNames = TypescriptTypeNames.of(spec);
+        var models = new TreeSet<CodegenModel>(Comparator.comparing(typeNames::getTypeName));
+        models.addAll(spec.getModels());
+        modelsByTypeName = List.copyOf(models);
+
+        var imports = new TreeSet<String>();
+        spec.getModels().stream()
+                .map(typeNames::getTypeName)
+                .forEach(imports::add);
+        spec.getModels().stream()
+                .filter(CodegenSchema::hasWriteOnlyProperties)
+                .map(typeNames::getResponseTypeName)
+                .forEach(imports::add);
+        spec.getModels().stream()
+                .filter(CodegenSchema::hasReadOnlyProperties)
+                .map(typeNames::getRequestTypeName)
+                .forEach(imports::add);
+        modelTypeImports = List.copyOf(imports);
+    }
+
+    /**
+     * @return the models of the spec, without array models, sorted by TypeScript type name
+     */
+    public List<CodegenModel> getModelsByTypeName() {
+        return modelsByTypeName;
+    }
+
+    /**
+     * @return the type names of the models, including the request and response types of models with
+     * read-only and write-only properties, sorted
+     */
+    public List<String> getModelTypeImports() {
+        return modelTypeImports;
+    }
+}
@@ -0,0 +1,149 @@
+package org.openapifactory.typescript;
+
+import org.openapifactory.api.codegen.CodegenProp;
+import org.openapifactory.api.codegen.CodegenProperty;
+import org.openapifactory.api.codegen.OpenapiSpec;
+import org.openapifactory.api.codegen.types.CodegenAnonymousObjectModel;
+import org.openapifactory.api.codegen.types.CodegenArraySchema;
+import org.openapifactory.api.codegen.types.CodegenConstantSchema;
+import org.openapifactory.api.codegen.types.CodegenEmbeddedEnumSchema;
+import org.openapifactory.api.codegen.types.CodegenModel;
+import org.openapifactory.api.codegen.types.CodegenPrimitiveSchema;
+import org.openapifactory.api.codegen.types.CodegenRecordSchema;
+import org.openapifactory.api.codegen.types.CodegenSchema;
+import org.openapifactory.api.codegen.types.CodegenSchemaRef;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.openapifactory.api.StringUtil.join;
+import static org.openapifactory.api.StringUtil.toLowerCamelCase;
+import static org.openapifactory.api.StringUtil.toUpperCamelCase;
+
+/**
+ * Resolves the TypeScript type names of the schemas in a spec. The names are cached by schema identity,
+ * and for a sealed spec the same instance is shared by all the generators, which may run concurrently.
+ */
+public class TypescriptTypeNames {
+
+    private static final Map<String, String> STRING_FORMATS = Map.of("date-time", "Date", "date", "Date", "binary", "Blob");
+    private static final Map<String, String> PRIMITIVE_TYPES = Map.of("integer", "number", "float", "number", "object", "unknown");
+
+    private final Map<CodegenSchema, String> typeNames = new IdentityHashMap<>();
+    private final Map<CodegenSchema, String> requestTypeNames = new IdentityHashMap<>();
+    private final Map<CodegenSchema, String> responseTypeNames = new IdentityHashMap<>();
+
+    public static TypescriptTypeNames of(OpenapiSpec spec) {
+        return spec.getDerivedView(TypescriptTypeNames.class, s -> new TypescriptTypeNames());
+    }
+
+    public String propertyDefinition(CodegenProp p) {
+        return getPropName(p) + (p.isRequired() && p.getSchema().hasNoRequiredProperties() ? "" : "?") +
+               ": " + getTypeName(p.getSchema()) + (p.isNullable() ? " | null" : "");
+    }
+
+    public String variableName(CodegenSchema type) {
+        if (type instanceof CodegenAnonymousObjectModel) {
+            return "dto";
+        }
+        if (type instanceof CodegenArraySchema arrayType) {
+            return variableName(arrayType.getItems());
+        }
+        return toLowerCamelCase(getTypeName(type));
+    }
+
+    public String getPropName(CodegenProp p) {
+        if (p.getName() == null) {
+            return variableName(p.getSchema());
+        }
+        return p.getName();
+    }
+
+    public String getTypeName(CodegenSchema type) {
+        return cached(typeNames, type, this::resolveTypeName);
+    }
+
+    public String getRequestTypeName(CodegenSchema type) {
+        return cached(requestTypeNames, type, this::resolveRequestTypeName);
+    }
+
+    public String getResponseTypeName(CodegenSchema type) {
+        return cached(responseTypeNames, type, this::resolveResponseTypeName);
+    }
+
+    /**
+     * The lock is not held while resolving, as resolving a name looks up the names of other schemas.
+     * Two threads may then resolve the same name, but they will get the same result.
+     */
+    private static String cached(Map<CodegenSchema, String> cache, CodegenSchema type, Function<CodegenSchema, String> resolver) {
+        synchronized (cache) {
+            var result = cache.get(type);
+            if (result != null) {
+                return result;
+            }
+        }
+        var result = resolver.apply(type);
+        synchronized (cache) {
+            cache.putIfAbsent(type, result);
+        }
+        return result;
+    }
+
+    private String resolveTypeName(CodegenSchema type) {
+        return switch (type) {
+            case CodegenSchemaRef refType -> getTypeName(refType.getReferencedType());
+            case CodegenArraySchema arrayType -> {
+                var itemTypeName = getTypeName(arrayType.getItems());
+                if (arrayType.getMaxItems() != null && arrayType.getMaxItems() < 5) {
+                    yield "[" + IntStream.range(0, arrayType.getMaxItems())
+                            .mapToObj(i -> itemTypeName + (i >= arrayType.getMinItems() ? "?" : ""))
+                            .collect(Collectors.joining(", ")) +
+                          "]";
+                }
+                yield getCollectionType(arrayType) + "<" + itemTypeName + ">";
+            }
+            case CodegenModel model -> model.getName() + "Dto";
+            case CodegenAnonymousObjectModel objectType ->
+                    "{ " + join("; ", objectType.getAllProperties(), this::propertyDefinition) + " }";
+            case CodegenEmbeddedEnumSchema enumModel -> {
+                if (enumModel.getDeclaredProperty() instanceof CodegenProperty prop) {
+                    yield getTypeName(prop.getModel()) + toUpperCamelCase(prop.getName()) + "Enum";
+                }
+                yield join(" | ", enumModel.getValues(), s -> "\"" + s + "\"");
+            }
+            case CodegenRecordSchema objectType -> "{ [key: string]: " + getTypeName(objectType.getAdditionalProperties()) + "; }";
+            case CodegenConstantSchema constant -> "\"" + constant.getValue() + "\"";
+            case CodegenPrimitiveSchema primitive -> {
+                if (primitive.getType().equals("string") && primitive.getFormat() != null) {
+                    yield STRING_FORMATS.getOrDefault(primitive.getFormat(), primitive.getType());
+                }
+                yield PRIMITIVE_TYPES.getOrDefault(primitive.getType(), primitive.getType());
+            }
+        };
+    }
+
+    private String resolveRequestTypeName(CodegenSchema type) {
+        if (!type.hasReadOnlyProperties()) {
+            return getTypeName(type);
+        } else if (type instanceof CodegenArraySchema arrayType) {
+            return getCollectionType(arrayType) + "<" + getRequestTypeName(arrayType.getItems()) + ">";
+        }
+        return getTypeName(type) + "Request";
+    }
+
+    private String resolveResponseTypeName(CodegenSchema type) {
+        if (!type.hasWriteOnlyProperties()) {
+            return getTypeName(type);
+        } else if (type instanceof CodegenArraySchema arrayType) {
+            return getCollectionType(arrayType) + "<" + getResponseTypeName(arrayType.getItems()) + ">";
+        }
+        return getTypeName(type) + "Response";
+    }
+
+    private static String getCollectionType(CodegenArraySchema arrayType) {
+        return arrayType.isUniqueItems() ? "Set" : "Array";
+    }
+}
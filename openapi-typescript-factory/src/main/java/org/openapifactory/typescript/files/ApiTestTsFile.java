@@ -1,22 +1,19 @@
 package org.openapifactory.typescript.files;
 
 import org.openapifactory.api.FileGenerator;
+import org.openapifactory.api.GeneratorOutput;
 import org.openapifactory.api.codegen.CodegenApi;
 import org.openapifactory.api.codegen.OpenapiSpec;
-import org.openapifactory.api.codegen.types.CodegenModel;
 import org.openapifactory.typescript.TypescriptFragments;
+import org.openapifactory.typescript.TypescriptSpecView;
+import org.openapifactory.typescript.TypescriptTypeNames;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.Comparator;
 import java.util.List;
-import java.util.TreeSet;
 
 import static org.openapifactory.api.StringUtil.join;
 import static org.openapifactory.api.StringUtil.lines;
 import static org.openapifactory.api.StringUtil.toLowerCamelCase;
-import static org.openapifactory.typescript.TypescriptFragments.getTypeName;
 
 public class ApiTestTsFile implements FileGenerator {
     private final OpenapiSpec spec;
@@ -26,9 +23,8 @@ public class ApiTestTsFile implements FileGenerator {
     }
 
     @Override
-    public void generate(Path outputRoot) throws IOException {
-        Files.createDirectories(outputRoot.resolve("test"));
-        Files.writeString(outputRoot.resolve("test/apiTest.ts"), content());
+    public void generate(GeneratorOutput output) throws IOException {
+        output.writeString("test/apiTest.ts", content());
     }
 
     private String content() {
@@ -47,11 +43,11 @@ public class ApiTestTsFile implements FileGenerator {
     }
 
     private String importSection() {
-        var models = new TreeSet<CodegenModel>(Comparator.comparing(TypescriptFragments::getTypeName));
-        models.addAll(spec.getModels());
+        var models = TypescriptSpecView.of(spec).getModelsByTypeName();
+        var typeNames = TypescriptTypeNames.of(spec);
         return ("\n" +
                 "import {\n" +
-                lines(models, m -> getTypeName(m) + ",").indent(4) +
+                lines(models, m -> typeNames.getTypeName(m) + ",").indent(4) +
                 "} from \"../model\";\n" +
                 "\n" +
                 "import {\n" +
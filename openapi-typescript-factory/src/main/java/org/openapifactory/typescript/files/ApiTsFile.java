@@ -1,94 +1,80 @@
 package org.openapifactory.typescript.files;
 
 import org.openapifactory.api.FileGenerator;
+import org.openapifactory.api.GeneratorOutput;
+import org.openapifactory.api.IndentingWriter;
+import org.openapifactory.api.codegen.CodegenApi;
 import org.openapifactory.api.codegen.CodegenContent;
 import org.openapifactory.api.codegen.CodegenOperation;
 import org.openapifactory.api.codegen.CodegenParameter;
 import org.openapifactory.api.codegen.CodegenResponse;
 import org.openapifactory.api.codegen.CodegenSecurity;
 import org.openapifactory.api.codegen.OpenapiSpec;
-import org.openapifactory.api.codegen.types.CodegenSchema;
 import org.openapifactory.typescript.TypescriptFragments;
+import org.openapifactory.typescript.TypescriptSpecView;
+import org.openapifactory.typescript.TypescriptTypeNames;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.openapifactory.api.StringUtil.INDENT;
 import static org.openapifactory.api.StringUtil.join;
 import static org.openapifactory.api.StringUtil.toLowerCamelCase;
 import static org.openapifactory.typescript.TypescriptFragments.getApiName;
-import static org.openapifactory.typescript.TypescriptFragments.getPropName;
-import static org.openapifactory.typescript.TypescriptFragments.getRequestTypeName;
-import static org.openapifactory.typescript.TypescriptFragments.getResponseTypeName;
-import static org.openapifactory.typescript.TypescriptFragments.getTypeName;
 
 public class ApiTsFile implements FileGenerator {
 
     private final OpenapiSpec spec;
+    private final TypescriptTypeNames typeNames;
 
     public ApiTsFile(OpenapiSpec spec) {
         this.spec = spec;
+        this.typeNames = TypescriptTypeNames.of(spec);
     }
 
     @Override
-    public void generate(Path outputRoot) throws IOException {
-        Files.writeString(outputRoot.resolve("api.ts"), content());
+    public void generate(GeneratorOutput output) throws IOException {
+        output.write("api.ts", this::writeContent);
     }
 
-    protected String content() {
-        return INDENT."""
-                /* eslint @typescript-eslint/no-unused-vars: off */
-                \{TypescriptFragments.documentationSection(spec)}
-
-                import {
-                    \{getModels().stream().map(m -> m + ",")}
+    protected void writeContent(IndentingWriter writer) throws IOException {
+        writer.write("/* eslint @typescript-eslint/no-unused-vars: off */\n");
+        writer.writeLines(0, Stream.of(TypescriptFragments.documentationSection(spec)));
+        writer.write("\nimport {\n");
+        writer.writeLines(4, getModels().stream().map(m -> m + ","));
+        writer.write("""
                 } from "./model";
 
                 import { BaseAPI, RequestCallOptions, SecurityScheme } from "./base";
 
                 export interface ApplicationApis {
-                    \{spec.getApis().stream().map(a -> toLowerCamelCase(a.getTag()) + "Api: " + getApiName(a) + "Interface;")}
-                }
-                \{spec.getApis().stream().map(api ->
-                    INDENT. """
-
-                    /**
-                     * \{getApiName(api)} - object-oriented interface
-                     */
-                    export interface \{getApiName(api)}Interface {
-                        \{api.getOperations().stream().map(ApiTsFile::operationDeclaration)}
-                    }
+                """);
+        writer.writeLines(4, spec.getApis().stream().map(a -> toLowerCamelCase(a.getTag()) + "Api: " + getApiName(a) + "Interface;"));
+        writer.write("}\n");
+        for (var api : spec.getApis()) {
+            writeApiSection(writer, api);
+        }
 
-                    /**
-                     * \{getApiName(api)} - object-oriented interface
-                     */
-                    export class \{getApiName(api)} extends BaseAPI implements \{getApiName(api)}Interface {
-                        \{api.getOperations().stream().map(ApiTsFile::operationImplementation)}
-                    }
-                    """
-                )}
-
-                type ServerNames =
-                    \{spec.getServers().stream().map(server -> "| \"" + server.getDescription().orElse("default") + '"')};
-
-                export const servers: Record<ServerNames, ApplicationApis> = {
-                    \{spec.getServers().stream().map(server ->
-                    INDENT."""
-                    \{server.getDescription().map(s -> '"' + s + '"').orElse("default")}: {
-                        \{spec.getApis().stream().map(api -> toLowerCamelCase(getApiName(api)) + ": new " + getApiName(api) + "(\"" + server.getUrl() + "\"),")}
-                    },
-                    """
-                    )}
-                };
-
-                \{spec.getSecuritySchemes().stream().map(scheme ->
+        writer.write("\ntype ServerNames =");
+        for (var server : spec.getServers()) {
+            writer.write("\n    | \"" + server.getDescription().orElse("default") + '"');
+        }
+        writer.write(";\n\nexport const servers: Record<ServerNames, ApplicationApis> = {\n");
+        writer.writeLines(4, spec.getServers().stream().map(server ->
+                INDENT."""
+                \{server.getDescription().map(s -> '"' + s + '"').orElse("default")}: {
+                    \{spec.getApis().stream().map(api -> toLowerCamelCase(getApiName(api)) + ": new " + getApiName(api) + "(\"" + server.getUrl() + "\"),")}
+                },
+                """
+        ));
+        writer.write("};\n\n");
+
+        writer.writeLines(0, spec.getSecuritySchemes().stream().map(scheme ->
                 INDENT. """
 
                 export class \{ scheme.getKey() } implements SecurityScheme {
@@ -101,26 +87,36 @@ public class ApiTsFile implements FileGenerator {
                     }
                 }
                 """
-                )}
-                """;
+        ));
+    }
+
+    private void writeApiSection(IndentingWriter writer, CodegenApi api) throws IOException {
+        writer.write(STR."""
+
+                /**
+                 * \{getApiName(api)} - object-oriented interface
+                 */
+                export interface \{getApiName(api)}Interface {
+                """);
+        writer.writeLines(4, api.getOperations().stream().map(this::operationDeclaration));
+        writer.write(STR."""
+                }
+
+                /**
+                 * \{getApiName(api)} - object-oriented interface
+                 */
+                export class \{getApiName(api)} extends BaseAPI implements \{getApiName(api)}Interface {
+                """);
+        writer.writeLines(4, api.getOperations().stream().map(this::operationImplementation));
+        writer.write("}\n");
     }
 
 
-    private TreeSet<String> getModels() {
-        var models = new TreeSet<String>();
-        spec.getModels().stream().map(TypescriptFragments::getTypeName).forEach(models::add);
-        spec.getModels().stream()
-                .filter(CodegenSchema::hasWriteOnlyProperties)
-                .map(TypescriptFragments::getResponseTypeName)
-                .forEach(models::add);
-        spec.getModels().stream()
-                .filter(CodegenSchema::hasReadOnlyProperties)
-                .map(TypescriptFragments::getRequestTypeName)
-                .forEach(models::add);
-        return models;
+    private List<String> getModels() {
+        return TypescriptSpecView.of(spec).getModelTypeImports();
     }
 
-    private static String operationDeclaration(CodegenOperation op) {
+    private String operationDeclaration(CodegenOperation op) {
         if (op.hasParams()) {
             return INDENT."""
             \{operationComment(op)}
@@ -136,7 +132,7 @@ public class ApiTsFile implements FileGenerator {
         }
     }
 
-    private static String operationImplementation(CodegenOperation op) {
+    private String operationImplementation(CodegenOperation op) {
         if (op.hasParams()) {
             return INDENT."""
             \{operationComment(op)}
@@ -167,7 +163,7 @@ public class ApiTsFile implements FileGenerator {
                 """;
     }
 
-    private static String operationParameters(CodegenOperation op) {
+    private String operationParameters(CodegenOperation op) {
         var params = "";
         if (!op.getPathParams().isEmpty()) {
             params += paramsDefinition("pathParams", op.getPathParams());
@@ -177,12 +173,12 @@ public class ApiTsFile implements FileGenerator {
         }
         if (op.getRequestBody() != null) {
             var p = op.getRequestBody();
-            var propName = p.isFormContent() ? "formParams" : TypescriptFragments.variableName(p.getSchema());
+            var propName = p.isFormContent() ? "formParams" : typeNames.variableName(p.getSchema());
             params += propName +
                       // Commented out for backwards compatibility
                       //(p.isRequired() && p.getSchema().hasNoRequiredProperties() ? "" : "?") +
                       ((p.isRequired() || p.isFormContent()) ? "" : "?") +
-                      ": " + getRequestTypeName(p.getSchema()) +
+                      ": " + typeNames.getRequestTypeName(p.getSchema()) +
                       ";\n";
         }
         if (!op.getHeaderParams().isEmpty()) {
@@ -194,7 +190,7 @@ public class ApiTsFile implements FileGenerator {
         return params;
     }
 
-    private static String functionBody(CodegenOperation op, CodegenContent requestBody) {
+    private String functionBody(CodegenOperation op, CodegenContent requestBody) {
         if (requestBody != null || !op.getSecurity().isEmpty()) {
             return INDENT."""
                    return await this.fetch(
@@ -246,8 +242,8 @@ public class ApiTsFile implements FileGenerator {
         }
     }
 
-    private static String requestBodyExpression(CodegenOperation op, CodegenContent requestBody) {
-        var propName = TypescriptFragments.variableName(requestBody.getSchema());
+    private String requestBodyExpression(CodegenOperation op, CodegenContent requestBody) {
+        var propName = typeNames.variableName(requestBody.getSchema());
         if (requestBody.isFormContent()) {
             return "this.formData(params.formParams)";
         } else if (op.hasOnlyOptionalParams()) {
@@ -257,18 +253,18 @@ public class ApiTsFile implements FileGenerator {
         }
     }
 
-    private static String paramsDefinition(String paramName, List<CodegenParameter> params) {
+    private String paramsDefinition(String paramName, List<CodegenParameter> params) {
         return paramName +
                (params.stream().noneMatch(CodegenParameter::isRequired) ? "?" : "") + ": { " +
-               join("; ", params, TypescriptFragments::propertyDefinition) +
+               join("; ", params, typeNames::propertyDefinition) +
                " };\n";
     }
 
-    private static String paramsDefinitionWithQuotes(String paramName, List<CodegenParameter> params) {
+    private String paramsDefinitionWithQuotes(String paramName, List<CodegenParameter> params) {
         return paramName +
                (params.stream().noneMatch(CodegenParameter::isRequired) ? "?" : "") + ": { " +
                join("; ", params, p ->
-                       '"' + getPropName(p) + '"' + (p.isRequired() ? "" : "?") + ": " + getTypeName(p.getSchema())) +
+                       '"' + typeNames.getPropName(p) + '"' + (p.isRequired() ? "" : "?") + ": " + typeNames.getTypeName(p.getSchema())) +
                " };\n";
     }
 
@@ -293,13 +289,13 @@ public class ApiTsFile implements FileGenerator {
         return !p.isExplode() || p.getSchema().isDate() || (p.getStyle() != null && processedStyles.contains(p.getStyle()));
     }
 
-    private static String getResponseType(CodegenOperation operation) {
+    private String getResponseType(CodegenOperation operation) {
         if (operation.getResponses().stream().allMatch(r -> r.getResponseTypes().isEmpty() || r.is4xx())) {
             return "void";
         }
         return operation.getResponses().stream()
                 .filter(CodegenResponse::is2xx)
-                .map(o -> o.getContent() == null ? "undefined" : (getResponseTypeName(o.getContent().getSchema())))
+                .map(o -> o.getContent() == null ? "undefined" : (typeNames.getResponseTypeName(o.getContent().getSchema())))
                 .collect(Collectors.joining("|"));
     }
 
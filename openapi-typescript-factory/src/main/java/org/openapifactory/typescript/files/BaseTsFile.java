@@ -1,12 +1,11 @@
 package org.openapifactory.typescript.files;
 
 import org.openapifactory.api.FileGenerator;
+import org.openapifactory.api.GeneratorOutput;
 import org.openapifactory.api.codegen.OpenapiSpec;
 import org.openapifactory.typescript.TypescriptFragments;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 
 public class BaseTsFile implements FileGenerator {
     private final OpenapiSpec spec;
@@ -16,8 +15,8 @@ public class BaseTsFile implements FileGenerator {
     }
 
     @Override
-    public void generate(Path outputRoot) throws IOException {
-        Files.writeString(outputRoot.resolve("base.ts"),
+    public void generate(GeneratorOutput output) throws IOException {
+        output.writeString("base.ts",
                 STR."""
                 /* eslint @typescript-eslint/no-explicit-any: off */
                                 
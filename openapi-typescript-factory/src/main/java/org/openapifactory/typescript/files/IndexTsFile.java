@@ -1,16 +1,15 @@
 package org.openapifactory.typescript.files;
 
 import org.openapifactory.api.FileGenerator;
+import org.openapifactory.api.GeneratorOutput;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 
 public class IndexTsFile implements FileGenerator {
 
     @Override
-    public void generate(Path outputRoot) throws IOException {
-        Files.writeString(outputRoot.resolve("index.ts"), """
+    public void generate(GeneratorOutput output) throws IOException {
+        output.writeString("index.ts", """
                 
                 export * from "./api";
                 export * from "./model";"""
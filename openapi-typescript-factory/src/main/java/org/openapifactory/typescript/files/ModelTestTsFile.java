@@ -1,9 +1,12 @@
 package org.openapifactory.typescript.files;
 
 import org.openapifactory.api.FileGenerator;
+import org.openapifactory.api.GeneratorOutput;
+import org.openapifactory.api.IndentingWriter;
 import org.openapifactory.api.codegen.CodegenProperty;
 import org.openapifactory.api.codegen.OpenapiSpec;
 import org.openapifactory.api.codegen.types.CodegenAllOfModel;
+import org.openapifactory.api.codegen.types.CodegenArrayModel;
 import org.openapifactory.api.codegen.types.CodegenArraySchema;
 import org.openapifactory.api.codegen.types.CodegenConstantSchema;
 import org.openapifactory.api.codegen.types.CodegenEmbeddedEnumSchema;
@@ -13,52 +16,46 @@ import org.openapifactory.api.codegen.types.CodegenModel;
 import org.openapifactory.api.codegen.types.CodegenOneOfModel;
 import org.openapifactory.api.codegen.types.CodegenPrimitiveSchema;
 import org.openapifactory.api.codegen.types.CodegenRecordSchema;
-import org.openapifactory.typescript.TypescriptFragments;
+import org.openapifactory.typescript.TypescriptSpecView;
+import org.openapifactory.typescript.TypescriptTypeNames;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
-import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import static org.openapifactory.api.StringUtil.indent;
 import static org.openapifactory.api.StringUtil.join;
-import static org.openapifactory.api.StringUtil.lines;
 import static org.openapifactory.api.StringUtil.toUpperCamelCase;
-import static org.openapifactory.typescript.TypescriptFragments.getTypeName;
 
 public class ModelTestTsFile implements FileGenerator {
     private final OpenapiSpec spec;
+    private final TypescriptTypeNames typeNames;
 
     public ModelTestTsFile(OpenapiSpec spec) {
         this.spec = spec;
+        this.typeNames = TypescriptTypeNames.of(spec);
     }
 
     @Override
-    public void generate(Path outputRoot) throws IOException {
-        Files.createDirectories(outputRoot.resolve("test"));
-        Files.writeString(outputRoot.resolve("test/modelTest.ts"), content());
+    public void generate(GeneratorOutput output) throws IOException {
+        output.write("test/modelTest.ts", this::writeContent);
     }
 
-    private String content() {
-        return String.join("", List.of(
-                importSection(),
-                helperSection(),
-                typesSection(),
-                sampleDataClass()
-        ));
+    private void writeContent(IndentingWriter writer) throws IOException {
+        writeImportSection(writer);
+        writer.write(helperSection());
+        writeTypesSection(writer);
+        writeSampleDataClass(writer);
     }
 
-    private String importSection() {
-        var models = getModels();
-        return "import {\n" +
-               lines(models, m ->
-                       getTypeName(m) + "," + (m instanceof CodegenEnumModel ? "\n" + getTypeName(m) + "Values," : "")
-                       + importInlineEnumValues(m)
-               ).indent(4) + "} from \"../model\";\n\n";
+    private void writeImportSection(IndentingWriter writer) throws IOException {
+        writer.write("import {\n");
+        writer.writeIndented(4, getModels(), m ->
+                typeNames.getTypeName(m) + "," + (m instanceof CodegenEnumModel ? "\n" + typeNames.getTypeName(m) + "Values," : "")
+                + importInlineEnumValues(m) + "\n"
+        );
+        writer.write("} from \"../model\";\n\n");
     }
 
     private String importInlineEnumValues(CodegenModel model) {
@@ -66,13 +63,13 @@ public class ModelTestTsFile implements FileGenerator {
             return generic.getAllProperties().stream()
                     .map(CodegenProperty::getSchema)
                     .filter(p -> p instanceof CodegenEmbeddedEnumSchema)
-                    .map(t -> "\n" + getTypeName(t) + "Values,")
+                    .map(t -> "\n" + typeNames.getTypeName(t) + "Values,")
                     .collect(Collectors.joining(""));
         } else if (model instanceof CodegenAllOfModel allOf) {
-            return allOf.getOwnProperties().stream()
+            return spec.getSchemaAnalysis().getProperties(allOf).ownProperties().stream()
                     .map(CodegenProperty::getSchema)
                     .filter(p -> p instanceof CodegenEmbeddedEnumSchema)
-                    .map(t -> "\n" + getTypeName(t) + "Values,")
+                    .map(t -> "\n" + typeNames.getTypeName(t) + "Values,")
                     .collect(Collectors.joining(""));
         } else {
             return "";
@@ -141,8 +138,8 @@ public class ModelTestTsFile implements FileGenerator {
 
     }
 
-    private String typesSection() {
-        return """
+    private void writeTypesSection(IndentingWriter writer) throws IOException {
+        writer.write("""
                 export type Factory<T> = {
                     [P in keyof T]?: ((sampleData: TestSampleData) => T[P]) | T[P];
                 };
@@ -150,7 +147,10 @@ public class ModelTestTsFile implements FileGenerator {
                 type ModelFactory<T> = Factory<T> | ((testData: TestSampleData) => T);
                                 
                 export interface SampleModelFactories {
-                %s}
+                """);
+        writer.writeIndented(4, getModels(), m -> typeNames.getTypeName(m) + "?: ModelFactory<" + typeNames.getTypeName(m) + ">;\n");
+        writer.write("""
+                }
                                 
                 export interface SamplePropertyValues {
                     // eslint-disable-next-line @typescript-eslint/no-explicit-any
@@ -172,17 +172,20 @@ public class ModelTestTsFile implements FileGenerator {
                     isNullable?: boolean;
                 }
 
-                """.formatted(indent(4, getModels(), m -> getTypeName(m) + "?: ModelFactory<" + getTypeName(m) + ">;\n"));
-
+                """);
     }
 
-    private String sampleDataClass() {
-        return "export class TestSampleData {\n" +
-               testSampleDataHelpers() +
-               "\n" +
-               allModelsFactoryFunction().indent(4) +
-               modelFactoryFunctions() +
-               "}\n";
+    private void writeSampleDataClass(IndentingWriter writer) throws IOException {
+        writer.write("export class TestSampleData {\n");
+        writer.write(testSampleDataHelpers());
+        writer.write("\n");
+        writer.indent(4);
+        writeAllModelsFactoryFunction(writer);
+        writer.outdent(4);
+        for (var model : getModels()) {
+            writer.write(singleModelFactoryFunctions(model));
+        }
+        writer.write("}\n");
     }
 
     private String testSampleDataHelpers() {
@@ -355,87 +358,83 @@ public class ModelTestTsFile implements FileGenerator {
                 """;
     }
 
-    private String allModelsFactoryFunction() {
-        return "// eslint-disable-next-line @typescript-eslint/no-explicit-any\n" +
-               "sample(modelName: string): any {\n" +
-               "    switch (modelName) {\n" +
-               indent(8, getModels(), m ->
-                       "case \"" + getTypeName(m) + "\":\n" +
-                       "    return this.sample" + getTypeName(m) + "();\n" +
-                       "case \"Array<" + getTypeName(m) + ">\":\n" +
-                       "    return this.sampleArray" + getTypeName(m) + "();\n"
-               ) +
-               "        default:\n" +
-               "            throw new Error(\"Unknown type \" + modelName);\n" +
-               "    }\n" +
-               "}\n";
-    }
-
-    private String modelFactoryFunctions() {
-        return join(getModels(), this::singleModelFactoryFunctions);
+    private void writeAllModelsFactoryFunction(IndentingWriter writer) throws IOException {
+        writer.write("// eslint-disable-next-line @typescript-eslint/no-explicit-any\n" +
+                     "sample(modelName: string): any {\n" +
+                     "    switch (modelName) {\n");
+        writer.writeIndented(8, getModels(), m ->
+                "case \"" + typeNames.getTypeName(m) + "\":\n" +
+                "    return this.sample" + typeNames.getTypeName(m) + "();\n" +
+                "case \"Array<" + typeNames.getTypeName(m) + ">\":\n" +
+                "    return this.sampleArray" + typeNames.getTypeName(m) + "();\n"
+        );
+        writer.write("        default:\n" +
+                     "            throw new Error(\"Unknown type \" + modelName);\n" +
+                     "    }\n" +
+                     "}\n");
     }
 
     private String singleModelFactoryFunctions(CodegenModel model) {
-        var type = getTypeName(model);
-        if (model instanceof CodegenGenericModel generic) {
-            return "\n" +
-                   ("sample" + type + "(template?: Factory<" + type + ">): " + type + " {\n" +
-                    getFromModelPropertyFactory(type) +
-                    "    return {\n" +
-                    indent(8, generic.getAllProperties(), ModelTestTsFile::propertyFactory) +
-                    "    };\n" +
-                    "}").indent(4) +
-                   "\n" + modelArrayFactory(type).indent(4);
-        } else if (model instanceof CodegenEnumModel enumModel) {
-            return "\n" +
-                   ("sample" + type + "(): " + type + " {\n" +
-                    "    const containerClass = \"" + type + "\";\n" +
-                    "    if (typeof this.sampleModelProperties[containerClass] === \"function\") {\n" +
-                    "        return this.sampleModelProperties[containerClass](this);\n" +
-                    "    }\n" +
-                    "    return this.pickOne(" + type + "Values);\n" +
-                    "}").indent(4) +
-                   "\n" +
-                   singleArrayFactory(type).indent(4);
-        } else if (model instanceof CodegenOneOfModel oneOf) {
-            return "\n" +
-                   ("sample" + type + "(\n" +
-                    "    factory?: (sampleData: TestSampleData) => " + type + "\n" +
-                    "): " + type + " {\n" +
-                    "    const containerClass = \"" + type + "\";\n" +
-                    "    if (factory) {\n" +
-                    "        return factory(this);\n" +
-                    "    }\n" +
-                    "    if (typeof this.sampleModelProperties[containerClass] === \"function\") {\n" +
-                    "        return this.sampleModelProperties[containerClass](this);\n" +
-                    "    }\n" +
-                    pickOneFromOneOf(oneOf) +
-                    "}").indent(4) +
-                   "\n" +
-                   ("sampleArray" + type + "(\n" +
-                    "    length?: number,\n" +
-                    "    factory?: (sampleData: TestSampleData) => " + type + "\n" +
-                    "): readonly " + type + "[] {\n" +
-                    "    return this.randomArray(\n" +
-                    "        () => this.sample" + type + "(factory),\n" +
-                    "        length ?? this.arrayLength()\n" +
-                    "    );\n" +
-                    "}").indent(4);
-        } else if (model instanceof CodegenAllOfModel allOf) {
-            return "\n" +
-                   (
-                           "sample" + type + "(template?: Factory<" + type + ">): " + type + " {\n" +
-                           getFromModelPropertyFactory(type) +
-                           "    return {\n" +
-                           indent(8, allOf.getRefSuperModels(), superType -> "...this.sample" + getTypeName(superType) + "(template),\n") +
-                           indent(8, allOf.getOwnProperties(), ModelTestTsFile::propertyFactory) +
-                           "    };\n" +
-                           "}\n").indent(4) +
-                   "\n" +
-                   modelArrayFactory(type).indent(4);
-        } else {
-            throw new RuntimeException("Unhandled " + model);
-        }
+        var type = typeNames.getTypeName(model);
+        return switch (model) {
+            case CodegenGenericModel generic ->
+                    "\n" +
+                    ("sample" + type + "(template?: Factory<" + type + ">): " + type + " {\n" +
+                     getFromModelPropertyFactory(type) +
+                     "    return {\n" +
+                     indent(8, generic.getAllProperties(), this::propertyFactory) +
+                     "    };\n" +
+                     "}").indent(4) +
+                    "\n" + modelArrayFactory(type).indent(4);
+            case CodegenEnumModel enumModel ->
+                    "\n" +
+                    ("sample" + type + "(): " + type + " {\n" +
+                     "    const containerClass = \"" + type + "\";\n" +
+                     "    if (typeof this.sampleModelProperties[containerClass] === \"function\") {\n" +
+                     "        return this.sampleModelProperties[containerClass](this);\n" +
+                     "    }\n" +
+                     "    return this.pickOne(" + type + "Values);\n" +
+                     "}").indent(4) +
+                    "\n" +
+                    singleArrayFactory(type).indent(4);
+            case CodegenOneOfModel oneOf ->
+                    "\n" +
+                    ("sample" + type + "(\n" +
+                     "    factory?: (sampleData: TestSampleData) => " + type + "\n" +
+                     "): " + type + " {\n" +
+                     "    const containerClass = \"" + type + "\";\n" +
+                     "    if (factory) {\n" +
+                     "        return factory(this);\n" +
+                     "    }\n" +
+                     "    if (typeof this.sampleModelProperties[containerClass] === \"function\") {\n" +
+                     "        return this.sampleModelProperties[containerClass](this);\n" +
+                     "    }\n" +
+                     pickOneFromOneOf(oneOf) +
+                     "}").indent(4) +
+                    "\n" +
+                    ("sampleArray" + type + "(\n" +
+                     "    length?: number,\n" +
+                     "    factory?: (sampleData: TestSampleData) => " + type + "\n" +
+                     "): readonly " + type + "[] {\n" +
+                     "    return this.randomArray(\n" +
+                     "        () => this.sample" + type + "(factory),\n" +
+                     "        length ?? this.arrayLength()\n" +
+                     "    );\n" +
+                     "}").indent(4);
+            case CodegenAllOfModel allOf ->
+                    "\n" +
+                    (
+                            "sample" + type + "(template?: Factory<" + type + ">): " + type + " {\n" +
+                            getFromModelPropertyFactory(type) +
+                            "    return {\n" +
+                            indent(8, allOf.getRefSuperModels(), superType -> "...this.sample" + typeNames.getTypeName(superType) + "(template),\n") +
+                            indent(8, spec.getSchemaAnalysis().getProperties(allOf).ownProperties(), this::propertyFactory) +
+                            "    };\n" +
+                            "}\n").indent(4) +
+                    "\n" +
+                    modelArrayFactory(type).indent(4);
+            case CodegenArrayModel ignored -> "";
+        };
     }
 
     private static String getFromModelPropertyFactory(String type) {
@@ -449,7 +448,7 @@ public class ModelTestTsFile implements FileGenerator {
         var discriminator = oneOf.getDiscriminator().getPropertyName();
         if (discriminator == null) {
             return "    return this.pickOne([\n" +
-                   indent(8, oneOf.getOneOf(), s -> "() => this.sample" + getTypeName(s) + "(),\n") +
+                   indent(8, oneOf.getOneOf(), s -> "() => this.sample" + typeNames.getTypeName(s) + "(),\n") +
                    "    ])();\n";
         }
         return "    const " + discriminator + " = this.pickOneString([" +
@@ -458,10 +457,10 @@ public class ModelTestTsFile implements FileGenerator {
                indent(8, oneOf.getMappedModels(), mapped ->
                        "case \"" + mapped.getName() + "\":\n" +
                        (mapped.getSchema() instanceof CodegenOneOfModel
-                               ? "    return this.sample" + getTypeName(mapped.getSchema()) + "();\n"
+                               ? "    return this.sample" + typeNames.getTypeName(mapped.getSchema()) + "();\n"
                                : (
                                "    return {\n" +
-                               "        ...this.sample" + (getTypeName(mapped.getSchema())) + "(),\n" +
+                               "        ...this.sample" + (typeNames.getTypeName(mapped.getSchema())) + "(),\n" +
                                "        " + discriminator + ",\n" +
                                "    };\n")
                        )
@@ -478,7 +477,7 @@ public class ModelTestTsFile implements FileGenerator {
                "}";
     }
 
-    private static String propertyFactory(CodegenProperty p) {
+    private String propertyFactory(CodegenProperty p) {
         if (p.getSchema() instanceof CodegenPrimitiveSchema primitive) {
             if (primitive.isDate()) {
                 return p.getName() + ": this.generate(\n" +
@@ -500,15 +499,15 @@ public class ModelTestTsFile implements FileGenerator {
             return p.getName() + ": this.generate(\n" +
                    "    template?." + p.getName() + ",\n" +
                    "    { containerClass, propertyName: \"" + p.getName() + "\", example: \"null\", isNullable: " + p.isNullable() + " },\n" +
-                   "    () => this.pickOne(" + getTypeName(p.getSchema()) + "Values)\n" +
+                   "    () => this.pickOne(" + typeNames.getTypeName(p.getSchema()) + "Values)\n" +
                    "),\n";
         } else if (p.getSchema().getReferencedType() instanceof CodegenArraySchema array) {
-            var functionCall = "() => this.sampleArray" + toUpperCamelCase(getTypeName(array.getItems())) + "()";
+            var functionCall = "() => this.sampleArray" + toUpperCamelCase(typeNames.getTypeName(array.getItems())) + "()";
             if (array.getItems() instanceof CodegenEmbeddedEnumSchema || array.getItems() instanceof CodegenConstantSchema) {
                 functionCall = "() => this.sampleArrayString()";
             } else if (array.getMaxItems() != null || array.getItems().getReferencedType() instanceof CodegenArraySchema) {
                 functionCall = "() => {\n" +
-                               "        throw new Error(\"Can't automatically generate for " + getTypeName(array) + "\");\n" +
+                               "        throw new Error(\"Can't automatically generate for " + typeNames.getTypeName(array) + "\");\n" +
                                "    }";
 
             }
@@ -519,12 +518,12 @@ public class ModelTestTsFile implements FileGenerator {
                    "),\n";
         } else if (p.getSchema() instanceof CodegenRecordSchema record) {
             // TODO: This is a bug in the old generator - records shouldn't generate arrays
-            var functionCall = "() => this.sampleArray" + toUpperCamelCase(getTypeName(record.getAdditionalProperties())) + "()";
+            var functionCall = "() => this.sampleArray" + toUpperCamelCase(typeNames.getTypeName(record.getAdditionalProperties())) + "()";
             if (record.getAdditionalProperties() instanceof CodegenEmbeddedEnumSchema || record.getAdditionalProperties() instanceof CodegenConstantSchema) {
                 functionCall = "() => this.sampleArrayString()";
             } else if (record.getAdditionalProperties() instanceof CodegenRecordSchema) {
                 functionCall = "() => {\n" +
-                       "        throw new Error(\"Can't automatically generate for " + getTypeName(record) + "\");\n" +
+                       "        throw new Error(\"Can't automatically generate for " + typeNames.getTypeName(record) + "\");\n" +
                        "    }";
             }
             return p.getName() + ": this.generate(\n" +
@@ -536,7 +535,7 @@ public class ModelTestTsFile implements FileGenerator {
         return p.getName() + ": this.generate(\n" +
                "    template?." + p.getName() + ",\n" +
                "    { containerClass, propertyName: \"" + p.getName() + "\", example: \"null\", isNullable: " + p.isNullable() + " },\n" +
-               "    () => this.sample" + getTypeName(p.getSchema()) + "()\n" +
+               "    () => this.sample" + typeNames.getTypeName(p.getSchema()) + "()\n" +
                "),\n";
     }
 
@@ -552,9 +551,7 @@ public class ModelTestTsFile implements FileGenerator {
                "}";
     }
 
-    private TreeSet<CodegenModel> getModels() {
-        var models = new TreeSet<CodegenModel>(Comparator.comparing(TypescriptFragments::getTypeName));
-        models.addAll(spec.getModels());
-        return models;
+    private List<CodegenModel> getModels() {
+        return TypescriptSpecView.of(spec).getModelsByTypeName();
     }
 }
@@ -1,6 +1,8 @@
 package org.openapifactory.typescript.files;
 
 import org.openapifactory.api.FileGenerator;
+import org.openapifactory.api.GeneratorOutput;
+import org.openapifactory.api.IndentingWriter;
 import org.openapifactory.api.codegen.types.CodegenAllOfModel;
 import org.openapifactory.api.codegen.types.CodegenArrayModel;
 import org.openapifactory.api.codegen.types.CodegenArraySchema;
@@ -14,99 +16,84 @@ import org.openapifactory.api.codegen.CodegenProperty;
 import org.openapifactory.api.codegen.types.CodegenSchemaRef;
 import org.openapifactory.api.codegen.OpenapiSpec;
 import org.openapifactory.typescript.TypescriptFragments;
+import org.openapifactory.typescript.TypescriptSpecView;
+import org.openapifactory.typescript.TypescriptTypeNames;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.TreeSet;
 
-import static org.openapifactory.api.StringUtil.indent;
 import static org.openapifactory.api.StringUtil.join;
 import static org.openapifactory.typescript.TypescriptFragments.docString;
-import static org.openapifactory.typescript.TypescriptFragments.getRequestTypeName;
-import static org.openapifactory.typescript.TypescriptFragments.getResponseTypeName;
-import static org.openapifactory.typescript.TypescriptFragments.getTypeName;
-import static org.openapifactory.typescript.TypescriptFragments.propertyDefinition;
 
 public class ModelTsFile implements FileGenerator {
     private final OpenapiSpec spec;
+    private final TypescriptTypeNames typeNames;
 
     public ModelTsFile(OpenapiSpec spec) {
         this.spec = spec;
+        this.typeNames = TypescriptTypeNames.of(spec);
     }
 
     @Override
-    public void generate(Path outputRoot) throws IOException {
-        Files.writeString(outputRoot.resolve("model.ts"), content());
+    public void generate(GeneratorOutput output) throws IOException {
+        output.write("model.ts", this::writeContent);
     }
 
-    private String content() {
-        var sections = new ArrayList<String>();
-        sections.add(TypescriptFragments.documentationSection(spec));
+    private void writeContent(IndentingWriter writer) throws IOException {
+        writer.write(TypescriptFragments.documentationSection(spec));
         for (var model : getModels()) {
-            sections.add(modelSection(model));
+            writeModelSection(writer, model);
         }
-        return String.join("", sections);
     }
 
-    private String modelSection(CodegenModel model) {
-        if (model instanceof CodegenEnumModel enumModel) {
-            return enumDeclaration(enumModel);
-        } else if (model instanceof CodegenGenericModel generic) {
-            return modelGenericSection(generic);
-        } else if (model instanceof CodegenAllOfModel allOf) {
-            return modelAllOfSection(allOf);
-        } else if (model instanceof CodegenOneOfModel oneOf) {
-            return modelOneOfSection(oneOf);
-        } else if (model instanceof CodegenArrayModel array) {
-            return "";
-        } else {
-            throw new IllegalArgumentException("Unsupported " + model);
+    private void writeModelSection(IndentingWriter writer, CodegenModel model) throws IOException {
+        switch (model) {
+            case CodegenEnumModel enumModel -> writeEnumDeclaration(writer, enumModel);
+            case CodegenGenericModel generic -> writeModelGenericSection(writer, generic);
+            case CodegenAllOfModel allOf -> writeModelAllOfSection(writer, allOf);
+            case CodegenOneOfModel oneOf -> writeModelOneOfSection(writer, oneOf);
+            case CodegenArrayModel ignored -> {
+            }
         }
     }
 
-    private static String enumDeclaration(CodegenEnum enumType) {
-        var name = getTypeName(enumType);
-        return STR."export const \{name}Values = [\n" +
-               indent(4, enumType.getValues(),
-                       s -> enumType.isString() ? "\"" + s + "\",\n" : s + ",\n") +
-               "] as const;\n" +
-               "\n" +
-               docString(enumType.getDescription()) +
-               "export type " + name + " = typeof " + name + "Values[number];\n";
+    private void writeEnumDeclaration(IndentingWriter writer, CodegenEnum enumType) throws IOException {
+        var name = typeNames.getTypeName(enumType);
+        writer.write(STR."export const \{name}Values = [\n");
+        writer.writeIndented(4, enumType.getValues(),
+                s -> enumType.isString() ? "\"" + s + "\",\n" : s + ",\n");
+        writer.write("] as const;\n" +
+                     "\n" +
+                     docString(enumType.getDescription()) +
+                     "export type " + name + " = typeof " + name + "Values[number];\n");
     }
 
-    protected String modelGenericSection(CodegenGenericModel generic) {
-        var result = "\n" + docString(generic.getDescription()) +
-                     "export interface " + getTypeName(generic) + " {\n" +
-                     join(generic.getAllProperties(), this::modelPropertyDefinition) +
-                     "}\n";
-        result += readOnlySection(generic);
-        result += writeOnlySection(generic);
-        result += inlineEnumSection(generic.getAllProperties());
-        return result;
+    protected void writeModelGenericSection(IndentingWriter writer, CodegenGenericModel generic) throws IOException {
+        writer.write("\n" + docString(generic.getDescription()) +
+                     "export interface " + typeNames.getTypeName(generic) + " {\n");
+        writer.writeIndented(4, generic.getAllProperties(), this::modelPropertyDefinition);
+        writer.write("}\n");
+        writer.write(readOnlySection(generic));
+        writer.write(writeOnlySection(generic));
+        writeInlineEnumSection(writer, generic.getAllProperties());
     }
-
     private String readOnlySection(CodegenModel model) {
         if (!model.hasReadOnlyProperties()) {
             return "";
         }
         if (model instanceof CodegenGenericModel generic) {
-            return "\nexport type " + getRequestTypeName(model) + " = " +
-                   "Omit<" + getTypeName(model) + ", " +
+            return "\nexport type " + typeNames.getRequestTypeName(model) + " = " +
+                   "Omit<" + typeNames.getTypeName(model) + ", " +
                    join("|", generic.getOmittedPropertiesForReadOnly(), p -> "\"" + p.getName() + "\"") + ">" +
-                   join(generic.getReferencesWithReadOnlyProperties(), p -> "\n    & { " + p.getName() + ": " + getRequestTypeName(p.getSchema()) + " }") +
+                   join(generic.getReferencesWithReadOnlyProperties(), p -> "\n    & { " + p.getName() + ": " + typeNames.getRequestTypeName(p.getSchema()) + " }") +
                    ";\n";
         } else if (model instanceof CodegenOneOfModel oneOf) {
-            return "\nexport type " + getRequestTypeName(model) + " = " + join(" | ", oneOf.getOneOf(), TypescriptFragments::getRequestTypeName)  + "\n";
+            return "\nexport type " + typeNames.getRequestTypeName(model) + " = " + join(" | ", oneOf.getOneOf(), typeNames::getRequestTypeName)  + "\n";
         } else if (model instanceof CodegenAllOfModel allOf) {
-            return "\nexport type " + getRequestTypeName(model) + " = " +
-                   "Omit<" + getTypeName(model) + ", " +
+            return "\nexport type " + typeNames.getRequestTypeName(model) + " = " +
+                   "Omit<" + typeNames.getTypeName(model) + ", " +
                    join("|", allOf.getOmittedPropertiesForReadOnly(), p -> "\"" + p.getName() + "\"") + ">" +
-                   join(allOf.getReferencesWithReadOnlyProperties(), p -> "\n    & { " + p.getName() + ": " + getRequestTypeName(p.getSchema()) + " }") +
+                   join(allOf.getReferencesWithReadOnlyProperties(), p -> "\n    & { " + p.getName() + ": " + typeNames.getRequestTypeName(p.getSchema()) + " }") +
                    ";\n";
         } else {
             throw new IllegalArgumentException(model.toString());
@@ -118,101 +105,100 @@ public class ModelTsFile implements FileGenerator {
             return "";
         }
         if (model instanceof CodegenGenericModel generic) {
-            return "\nexport type " + getResponseTypeName(model) + " = " +
-                   "Omit<" + getTypeName(model) + ", " +
+            return "\nexport type " + typeNames.getResponseTypeName(model) + " = " +
+                   "Omit<" + typeNames.getTypeName(model) + ", " +
                    join("|", generic.getOmittedPropertiesForWriteOnly(), p -> "\"" + p.getName() + "\"") + ">" +
-                   join(generic.getReferencesWithWriteOnlyProperties(), p -> "\n    & { " + p.getName() + ": " + getResponseTypeName(p.getSchema()) + " }") +
+                   join(generic.getReferencesWithWriteOnlyProperties(), p -> "\n    & { " + p.getName() + ": " + typeNames.getResponseTypeName(p.getSchema()) + " }") +
                    ";\n";
         } else if (model instanceof CodegenOneOfModel oneOf) {
-            return "\nexport type " + getResponseTypeName(model) + " = " + "SOMETHING;";
+            return "\nexport type " + typeNames.getResponseTypeName(model) + " = " + "SOMETHING;";
         } else if (model instanceof CodegenAllOfModel allOf) {
-            return "\nexport type " + getResponseTypeName(model) + " = " +
-                   "Omit<" + getTypeName(model) + ", " +
+            return "\nexport type " + typeNames.getResponseTypeName(model) + " = " +
+                   "Omit<" + typeNames.getTypeName(model) + ", " +
                    join("|", allOf.getOmittedPropertiesForReadOnly(), p -> "\"" + p.getName() + "\"") + ">" +
-                   join(allOf.getReferencesWithReadOnlyProperties(), p -> "\n    & { " + p.getName() + ": " + getResponseTypeName(p.getSchema()) + " }") +
+                   join(allOf.getReferencesWithReadOnlyProperties(), p -> "\n    & { " + p.getName() + ": " + typeNames.getResponseTypeName(p.getSchema()) + " }") +
                    ";\n";
         } else {
             throw new IllegalArgumentException(model.toString());
         }
     }
 
-    private static String inlineEnumSection(Collection<CodegenProperty> properties) {
-        var result = "";
+    private void writeInlineEnumSection(IndentingWriter writer, Collection<CodegenProperty> properties) throws IOException {
         for (var property : properties) {
             if (property.getSchema() instanceof CodegenEmbeddedEnumSchema enumType) {
-                result += "\n" + enumDeclaration(enumType);
+                writer.write("\n");
+                writeEnumDeclaration(writer, enumType);
             } else if (property.getSchema() instanceof CodegenArraySchema arrayType) {
                 if (arrayType.getItems() instanceof CodegenEmbeddedEnumSchema enumType) {
-                    result += "\n" + enumDeclaration(enumType);
+                    writer.write("\n");
+                    writeEnumDeclaration(writer, enumType);
                 }
             }
         }
-        return result;
     }
 
-    private String modelAllOfSection(CodegenAllOfModel allOf) {
+    private void writeModelAllOfSection(IndentingWriter writer, CodegenAllOfModel allOf) throws IOException {
+        var ownProperties = spec.getSchemaAnalysis().getProperties(allOf).ownProperties();
         if (allOf.getInlineSuperModels().isEmpty()) {
-            return "\n" +
-                   "export type " + getTypeName(allOf) + " = " +
-                   join(" & ", allOf.getRefSuperModels(), TypescriptFragments::getTypeName) +
-                   ";\n" + readOnlySection(allOf) + inlineEnumSection(allOf.getOwnProperties());
+            writer.write("\n" +
+                         "export type " + typeNames.getTypeName(allOf) + " = " +
+                         join(" & ", allOf.getRefSuperModels(), typeNames::getTypeName) +
+                         ";\n" + readOnlySection(allOf));
         } else if (allOf.getRefSuperModels().size() == 1) {
             var superClass = (CodegenSchemaRef) allOf.getRefSuperModels().get(0);
-            return "\n" +
-                   "export interface " + getTypeName(allOf) + " extends " + getTypeName(superClass) + " {\n" +
-                   indent(4, allOf.getOwnProperties(), p -> propertyDefinition(p) + ";\n") +
-                   "}\n" + readOnlySection(allOf) + inlineEnumSection(allOf.getOwnProperties());
+            writer.write("\n" +
+                         "export interface " + typeNames.getTypeName(allOf) + " extends " + typeNames.getTypeName(superClass) + " {\n");
+            writer.writeIndented(4, ownProperties, p -> typeNames.propertyDefinition(p) + ";\n");
+            writer.write("}\n" + readOnlySection(allOf));
         } else {
-            return "\n" +
-                   "export type " + getTypeName(allOf) + " = " +
-                   join(" & ", allOf.getRefSuperModels(), TypescriptFragments::getTypeName) +
-                   " & {\n" +
-                   indent(4, allOf.getOwnProperties(), p -> propertyDefinition(p) + ";\n") +
-                   "};\n" +
-                   readOnlySection(allOf) +
-                   inlineEnumSection(allOf.getOwnProperties());
+            writer.write("\n" +
+                         "export type " + typeNames.getTypeName(allOf) + " = " +
+                         join(" & ", allOf.getRefSuperModels(), typeNames::getTypeName) +
+                         " & {\n");
+            writer.writeIndented(4, ownProperties, p -> typeNames.propertyDefinition(p) + ";\n");
+            writer.write("};\n" + readOnlySection(allOf));
         }
+        writeInlineEnumSection(writer, ownProperties);
     }
 
-    private String modelOneOfSection(CodegenOneOfModel oneOf) {
-        var typeName = getTypeName(oneOf);
+    private void writeModelOneOfSection(IndentingWriter writer, CodegenOneOfModel oneOf) throws IOException {
+        var typeName = typeNames.getTypeName(oneOf);
         var discriminator = oneOf.getDiscriminator();
 
         if (discriminator.getPropertyName() == null) {
-            return "\n" +
-                   "export type " + typeName + " = " +
-                   join(" | ", oneOf.getOneOf(), TypescriptFragments::getTypeName) +
-                   ";\n" + readOnlySection(oneOf);
+            writer.write("\n" +
+                         "export type " + typeName + " = " +
+                         join(" | ", oneOf.getOneOf(), typeNames::getTypeName) +
+                         ";\n" + readOnlySection(oneOf));
+            return;
         }
 
-        return "\n" +
-               "export type " + typeName + " =\n" +
-               join(" |\n", oneOf.getMappedModels(), mapped ->
-                       "    " + ((mapped.getSchema() instanceof CodegenOneOfModel)
-                               ? "" : "{ " + discriminator.getPropertyName() + ": \"" + mapped.getName() + "\" } & ") + getTypeName(mapped.getSchema())
-               ) + ";\n" +
-               readOnlySection(oneOf) +
-               "\n" +
-               "export const " + typeName + "Discriminators = [\n" +
-               indent(4, oneOf.getMappedModels(), s -> {
-                   if (s.getSchema() instanceof CodegenOneOfModel subOneOf) {
-                       return join(subOneOf.getMappedModels(), s2 -> "\"" + s2.getName() + "\",\n");
-                   } else {
-                       return "\"" + s.getName() + "\",\n";
-                   }
-               }) +
-               "] as const;\n" +
-               "\n" +
-               "export type " + typeName + "Discriminator = typeof " + typeName + "Discriminators[number];\n";
+        writer.write("\n" +
+                     "export type " + typeName + " =\n" +
+                     join(" |\n", oneOf.getMappedModels(), mapped ->
+                             "    " + ((mapped.getSchema() instanceof CodegenOneOfModel)
+                                     ? "" : "{ " + discriminator.getPropertyName() + ": \"" + mapped.getName() + "\" } & ") + typeNames.getTypeName(mapped.getSchema())
+                     ) + ";\n" +
+                     readOnlySection(oneOf) +
+                     "\n" +
+                     "export const " + typeName + "Discriminators = [\n");
+        writer.writeIndented(4, oneOf.getMappedModels(), s -> {
+            if (s.getSchema() instanceof CodegenOneOfModel subOneOf) {
+                return join(subOneOf.getMappedModels(), s2 -> "\"" + s2.getName() + "\",\n");
+            } else {
+                return "\"" + s.getName() + "\",\n";
+            }
+        });
+        writer.write("] as const;\n" +
+                     "\n" +
+                     "export type " + typeName + "Discriminator = typeof " + typeName + "Discriminators[number];\n");
     }
 
     protected String modelPropertyDefinition(CodegenProperty p) {
-        return (docString(p.getDescription()) + propertyDefinition(p) + ";").indent(4);
+        return docString(p.getDescription()) + typeNames.propertyDefinition(p) + ";\n";
     }
 
     private Collection<CodegenModel> getModels() {
-        var models = new TreeSet<CodegenModel>(Comparator.comparing(TypescriptFragments::getTypeName));
-        models.addAll(spec.getModels());
-        return models;
+        return TypescriptSpecView.of(spec).getModelsByTypeName();
     }
 }
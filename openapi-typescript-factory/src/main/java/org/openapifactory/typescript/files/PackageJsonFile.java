@@ -1,11 +1,10 @@
 package org.openapifactory.typescript.files;
 
 import org.openapifactory.api.FileGenerator;
+import org.openapifactory.api.GeneratorOutput;
 import org.openapifactory.api.codegen.OpenapiSpec;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 
 public class PackageJsonFile implements FileGenerator {
     private final OpenapiSpec spec;
@@ -15,8 +14,8 @@ public class PackageJsonFile implements FileGenerator {
     }
 
     @Override
-    public void generate(Path outputRoot) throws IOException {
-        Files.writeString(outputRoot.resolve("package.json"), content());
+    public void generate(GeneratorOutput output) throws IOException {
+        output.writeString("package.json", content());
     }
 
     private String content() {
@@ -1,16 +1,15 @@
 package org.openapifactory.typescript.files;
 
 import org.openapifactory.api.FileGenerator;
+import org.openapifactory.api.GeneratorOutput;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 
 public class TsconfigJsonFile implements FileGenerator {
 
     @Override
-    public void generate(Path outputRoot) throws IOException {
-        Files.writeString(outputRoot.resolve("tsconfig.json"), content());
+    public void generate(GeneratorOutput output) throws IOException {
+        output.writeString("tsconfig.json", content());
     }
 
     private String content() {
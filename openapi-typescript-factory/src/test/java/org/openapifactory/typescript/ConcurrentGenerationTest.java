@@ -0,0 +1,63 @@
+package org.openapifactory.typescript;
+
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.TestFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+public class ConcurrentGenerationTest {
+
+    private final Path outputRoot = Path.of("target/concurrentGeneration");
+
+    @TestFactory
+    Stream<DynamicNode> concurrentOutputIsIdenticalToSequential() throws IOException {
+        try (var files = Files.list(Paths.get("../snapshotTests"))) {
+            var specs = files
+                    .filter(Files::isRegularFile)
+                    .filter(f -> !f.getFileName().toString().endsWith(".link"))
+                    .sorted()
+                    .toList();
+            return specs.stream().map(this::compareGeneration);
+        }
+    }
+
+    private DynamicNode compareGeneration(Path spec) {
+        var name = spec.getFileName().toString();
+        return dynamicTest(name, () -> {
+            var sequentialDir = outputRoot.resolve("sequential").resolve(name);
+            var concurrentDir = outputRoot.resolve("concurrent").resolve(name);
+            new OpenapiTypescriptFactory(null, false).generate(spec, sequentialDir);
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                new OpenapiTypescriptFactory(executor, false).generate(spec, concurrentDir);
+            }
+
+            var sequentialFiles = listFiles(sequentialDir);
+            assertEquals(sequentialFiles, listFiles(concurrentDir));
+            for (var file : sequentialFiles) {
+                assertArrayEquals(
+                        Files.readAllBytes(sequentialDir.resolve(file)),
+                        Files.readAllBytes(concurrentDir.resolve(file)),
+                        "Different content of " + file
+                );
+            }
+        });
+    }
+
+    private static TreeSet<Path> listFiles(Path directory) throws IOException {
+        try (var walk = Files.walk(directory)) {
+            var result = new TreeSet<Path>();
+            walk.filter(Files::isRegularFile).map(directory::relativize).forEach(result::add);
+            return result;
+        }
+    }
+}
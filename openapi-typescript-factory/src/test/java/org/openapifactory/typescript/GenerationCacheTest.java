@@ -0,0 +1,70 @@
+package org.openapifactory.typescript;
+
+import org.junit.jupiter.api.Test;
+import org.openapifactory.api.GenerationCache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GenerationCacheTest {
+
+    private final Path workDir = Path.of("target/generationCacheTest");
+    private final Path specDir = workDir.resolve("spec");
+    private final Path outputDir = workDir.resolve("output");
+
+    @Test
+    void shouldSkipGenerationUntilReferencedFileChanges() throws IOException {
+        cleanDirectory(workDir);
+        Files.createDirectories(specDir.resolve("schemas"));
+        Files.copy(Path.of("../snapshotTests/geojson.yaml"), specDir.resolve("geojson.yaml"));
+        var schemaFile = specDir.resolve("schemas/geojson.yaml");
+        Files.copy(Path.of("../snapshotTests/schemas/geojson.yaml"), schemaFile);
+
+        var factory = new OpenapiTypescriptFactory(null, true);
+        var firstRun = factory.generate(specDir.resolve("geojson.yaml"), outputDir);
+        assertTrue(firstRun.getChangedFiles().contains(Path.of("model.ts")));
+
+        var cachedRun = factory.generate(specDir.resolve("geojson.yaml"), outputDir);
+        assertEquals(Set.of(), cachedRun.getChangedFiles());
+        assertEquals(firstRun.getFiles(), cachedRun.getUnchangedFiles());
+
+        Files.writeString(schemaFile, Files.readString(schemaFile)
+                .replace("Point:\n  properties:", "Point:\n  description: A single position\n  properties:"));
+        var changedRun = factory.generate(specDir.resolve("geojson.yaml"), outputDir);
+        assertEquals(Set.of(Path.of("model.ts")), changedRun.getChangedFiles());
+        assertTrue(Files.readString(outputDir.resolve("model.ts")).contains("A single position"));
+
+        Files.delete(outputDir.resolve("api.ts"));
+        var missingOutputRun = factory.generate(specDir.resolve("geojson.yaml"), outputDir);
+        assertEquals(Set.of(Path.of("api.ts")), missingOutputRun.getChangedFiles());
+        assertFalse(factory.generate(specDir.resolve("geojson.yaml"), outputDir).hasChanges());
+
+        Files.writeString(outputDir.resolve("model.ts"), "// edited by hand\n");
+        var editedOutputRun = factory.generate(specDir.resolve("geojson.yaml"), outputDir);
+        assertEquals(Set.of(Path.of("model.ts")), editedOutputRun.getChangedFiles());
+    }
+
+    @Test
+    void shouldNotKeepCacheByDefault() throws IOException {
+        cleanDirectory(workDir);
+        new OpenapiTypescriptFactory().generate(Path.of("../snapshotTests/petstore.json"), outputDir);
+        assertTrue(Files.isRegularFile(outputDir.resolve("api.ts")));
+        assertFalse(Files.exists(outputDir.resolve(GenerationCache.CACHE_DIRECTORY)));
+    }
+
+    private static void cleanDirectory(Path directory) throws IOException {
+        if (Files.isDirectory(directory)) {
+            try (var walk = Files.walk(directory)) {
+                walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+}
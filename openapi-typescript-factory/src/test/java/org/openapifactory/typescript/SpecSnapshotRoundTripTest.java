@@ -0,0 +1,81 @@
+package org.openapifactory.typescript;
+
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.TestFactory;
+import org.openapifactory.api.GeneratorOutput;
+import org.openapifactory.api.SpecSnapshot;
+import org.openapifactory.api.codegen.OpenapiSpec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+public class SpecSnapshotRoundTripTest {
+
+    private final Path outputRoot = Path.of("target/specSnapshotRoundTrip");
+
+    @TestFactory
+    Stream<DynamicNode> outputFromSnapshotIsIdenticalToOutputFromSpec() throws IOException {
+        try (var files = Files.list(Paths.get("../snapshotTests"))) {
+            var specs = files
+                    .filter(Files::isRegularFile)
+                    .filter(f -> !f.getFileName().toString().endsWith(".link"))
+                    .sorted()
+                    .toList();
+            return specs.stream().map(this::compareGeneration);
+        }
+    }
+
+    private DynamicNode compareGeneration(Path specFile) {
+        var name = specFile.getFileName().toString();
+        return dynamicTest(name, () -> {
+            var parsedDir = outputRoot.resolve("parsed").resolve(name);
+            var snapshotDir = outputRoot.resolve("snapshot").resolve(name);
+            var parser = new OpenapiTypescriptSpecParser();
+            var spec = parser.createOpenApiSpec(specFile.toUri().toURL());
+            spec.setName(name.substring(0, name.lastIndexOf('.')));
+
+            var buffer = new ByteArrayOutputStream();
+            SpecSnapshot.write(spec, parser, specFile.toUri().toURL(), buffer);
+            var restored = SpecSnapshot.read(new ByteArrayInputStream(buffer.toByteArray()));
+            assertTrue(restored.isSealed());
+
+            generate(spec, parsedDir);
+            generate(restored, snapshotDir);
+            var parsedFiles = listFiles(parsedDir);
+            assertEquals(parsedFiles, listFiles(snapshotDir));
+            for (var file : parsedFiles) {
+                assertArrayEquals(
+                        Files.readAllBytes(parsedDir.resolve(file)),
+                        Files.readAllBytes(snapshotDir.resolve(file)),
+                        "Different content of " + file
+                );
+            }
+        });
+    }
+
+    private static void generate(OpenapiSpec spec, Path directory) throws IOException {
+        var output = new GeneratorOutput(directory);
+        for (var file : OpenapiTypescriptFactory.createFileGenerators(spec)) {
+            file.generate(output);
+        }
+    }
+
+    private static TreeSet<Path> listFiles(Path directory) throws IOException {
+        try (var walk = Files.walk(directory)) {
+            var result = new TreeSet<Path>();
+            walk.filter(Files::isRegularFile).map(directory::relativize).forEach(result::add);
+            return result;
+        }
+    }
+}
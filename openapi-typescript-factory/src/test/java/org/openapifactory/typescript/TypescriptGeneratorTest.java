@@ -0,0 +1,17 @@
+package org.openapifactory.typescript;
+
+import org.junit.jupiter.api.Test;
+import org.openapifactory.api.OpenapiGeneratorRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class TypescriptGeneratorTest {
+
+    @Test
+    void shouldBeFoundByServiceLoader() {
+        var registry = OpenapiGeneratorRegistry.load();
+        assertInstanceOf(TypescriptGenerator.class, registry.get("typescript"));
+        assertEquals("typescript", registry.get("typescript").getName());
+    }
+}